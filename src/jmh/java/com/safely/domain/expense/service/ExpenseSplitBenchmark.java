@@ -0,0 +1,65 @@
+package com.safely.domain.expense.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.expense.split.LargestRemainderAllocator;
+import com.safely.domain.member.entity.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// ExpenseService.distributeAmountAndSaveParticipants의 분배 부분(1/N + 나머지, 참여자 엔티티 생성)과
+// 가중치 분배(LargestRemainderAllocator, 나머지 정렬 포함). 참여자 조회(findAllById)와 저장은 제외함.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(5)
+@State(Scope.Benchmark)
+public class ExpenseSplitBenchmark {
+
+    @Param({"2", "10", "100", "1000", "10000"})
+    int participantCount;
+
+    Member payer;
+    List<Member> participants;
+    long[] weights;
+
+    @Setup
+    public void setUp() {
+        participants = new ArrayList<>(participantCount);
+        for (int i = 1; i <= participantCount; i++) {
+            participants.add(Member.builder().id((long) i).name("멤버" + i).build());
+        }
+        payer = participants.get(0);
+
+        // 나머지가 많이 생기도록 서로소에 가까운 가중치 (최악의 경우 정렬 대상이 참여자 수만큼)
+        Random random = new Random(42);
+        weights = new long[participantCount];
+        for (int i = 0; i < participantCount; i++) {
+            weights[i] = 1 + random.nextInt(997);
+        }
+    }
+
+    @Benchmark
+    public Expense split() {
+        Expense expense = Expense.builder()
+                .payer(payer)
+                .amount(1_234_567L)
+                .location("숙소")
+                .category(ExpenseCategory.ACCOMMODATION)
+                .spentDate(LocalDate.of(2025, 1, 1))
+                .build();
+        ExpenseService.addParticipants(expense, 1_234_567L, participants);
+        return expense;
+    }
+
+    @Benchmark
+    public long[] weighted() {
+        return LargestRemainderAllocator.allocate(1_234_567L, weights);
+    }
+}
@@ -0,0 +1,134 @@
+package com.safely.domain.settlement.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.expense.entity.ExpenseParticipant;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.settlement.dto.MemberAmount;
+import com.safely.domain.settlement.dto.SettlementResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// SettlementService.calculateSettlement + 프리뷰 응답 변환 중 메모리에서 하는 계산 비교.
+// DB 조회는 빼고, 조회 결과와 같은 모양의 데이터(그룹 멤버 목록, 멤버별 합계 행, 지출 목록)를 미리 만들어 둠.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(5)
+public class SettlementCalculationBenchmark {
+
+    // 현재 방식: 잔액 원장에서 멤버당 한 행씩 읽음 (지출 수와 무관)
+    @State(Scope.Benchmark)
+    public static class LedgerState {
+        @Param({"10", "100", "1000", "10000"})
+        int memberCount;
+
+        List<Member> members;
+        List<MemberAmount> rows;
+
+        @Setup
+        public void setUp() {
+            members = members(memberCount);
+            long[] balances = SettlementTransferCalculatorBenchmark.randomBalances(memberCount);
+            rows = new ArrayList<>(memberCount);
+            for (int i = 0; i < memberCount; i++) {
+                rows.add(new MemberAmount(members.get(i).getId(), balances[i]));
+            }
+        }
+    }
+
+    // 원장이 없을 때(초기화/재계산)처럼 지출 전체를 다시 합산하는 경우
+    @State(Scope.Benchmark)
+    public static class ExpenseState {
+        @Param({"10", "100", "1000", "10000"})
+        int memberCount;
+
+        @Param({"100", "10000", "100000"})
+        int expenseCount;
+
+        List<Member> members;
+        List<Expense> expenses;
+
+        @Setup
+        public void setUp() {
+            members = members(memberCount);
+            expenses = expenses(members, expenseCount);
+        }
+    }
+
+    @Benchmark
+    public List<SettlementResponse> fromLedger(LedgerState state) {
+        return preview(BalanceSheet.of(state.members, state.rows));
+    }
+
+    @Benchmark
+    public List<SettlementResponse> fromExpenses(ExpenseState state) {
+        Map<Long, Long> totals = new HashMap<>();
+        for (Expense expense : state.expenses) {
+            BalanceLedgerService.contributionOf(expense).forEach((memberId, amount) -> totals.merge(memberId, amount, Long::sum));
+        }
+
+        List<MemberAmount> rows = new ArrayList<>(totals.size());
+        totals.forEach((memberId, amount) -> rows.add(new MemberAmount(memberId, amount)));
+        return preview(BalanceSheet.of(state.members, rows));
+    }
+
+    private static List<SettlementResponse> preview(BalanceSheet sheet) {
+        List<SettlementResponse> responses = new ArrayList<>(sheet.size());
+        for (int i = 0; i < sheet.size(); i++) {
+            responses.add(SettlementResponse.of(sheet.getMembers()[i], sheet.getBalances()[i]));
+        }
+        return responses;
+    }
+
+    static List<Member> members(int count) {
+        List<Member> members = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            members.add(Member.builder()
+                    .id((long) i)
+                    .email("member" + i + "@safely.com")
+                    .name("멤버" + i)
+                    .profileImage("https://safely.s3.ap-northeast-2.amazonaws.com/profile/" + i + "/image.png")
+                    .authority("ROLE_USER")
+                    .build());
+        }
+        return members;
+    }
+
+    // 지출 한 건당 참여자 2~6명(멤버 수가 적으면 그 이하), 100원 단위 금액을 1/N로 나눔
+    static List<Expense> expenses(List<Member> members, int count) {
+        Random random = new Random(count);
+        List<Expense> expenses = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            long amount = (random.nextInt(5_000) + 1) * 100L;
+            Expense expense = Expense.builder()
+                    .payer(members.get(random.nextInt(members.size())))
+                    .amount(amount)
+                    .location("장소" + i)
+                    .category(ExpenseCategory.FOOD)
+                    .spentDate(LocalDate.of(2025, 1, 1))
+                    .build();
+
+            int participantCount = Math.min(members.size(), 2 + random.nextInt(5));
+            int first = random.nextInt(members.size());
+            for (int p = 0; p < participantCount; p++) {
+                long share = amount / participantCount + (p == 0 ? amount % participantCount : 0);
+                expense.addParticipant(ExpenseParticipant.builder()
+                        .expense(expense)
+                        .member(members.get((first + p) % members.size()))
+                        .amount(share)
+                        .build());
+            }
+            expenses.add(expense);
+        }
+        return expenses;
+    }
+}
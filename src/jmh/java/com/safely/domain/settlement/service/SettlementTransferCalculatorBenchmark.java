@@ -0,0 +1,66 @@
+package com.safely.domain.settlement.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(5)
+public class SettlementTransferCalculatorBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class GreedyState {
+        @Param({"10", "100", "1000", "10000"})
+        int memberCount;
+
+        long[] balances;
+        final SettlementTransferCalculator calculator = new SettlementTransferCalculator();
+
+        @Setup
+        public void setUp() {
+            balances = randomBalances(memberCount);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExactState {
+        @Param({"8", "12", "16"})
+        int memberCount;
+
+        long[] balances;
+        final SettlementTransferCalculator calculator = new SettlementTransferCalculator();
+
+        @Setup
+        public void setUp() {
+            balances = randomBalances(memberCount);
+        }
+    }
+
+    @Benchmark
+    public List<SettlementTransferCalculator.Transfer> greedy(GreedyState state) {
+        return state.calculator.calculateGreedy(state.balances);
+    }
+
+    @Benchmark
+    public List<SettlementTransferCalculator.Transfer> exact(ExactState state) {
+        return state.calculator.calculateExact(state.balances);
+    }
+
+    // 실제 정산처럼 금액 단위가 1,000원인 잔액을 만들어서 합이 0인 묶음이 어느 정도 생기도록 함
+    static long[] randomBalances(int size) {
+        Random random = new Random(size);
+        long[] balances = new long[size];
+        long sum = 0;
+        for (int i = 0; i < size - 1; i++) {
+            balances[i] = (random.nextInt(201) - 100) * 1_000L;
+            sum += balances[i];
+        }
+        balances[size - 1] = -sum;
+        return balances;
+    }
+}
@@ -0,0 +1,75 @@
+package com.safely.global.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.safely.domain.expense.dto.ExpenseResponse;
+import com.safely.domain.expense.dto.ExpenseScrollResponse;
+import com.safely.domain.settlement.dto.SettlementResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 응답 DTO JSON 직렬화 비용. 정산 프리뷰는 Redis 캐시(SettlementPreviewCache)에 저장할 때도 같은 비용이 듦.
+// ObjectMapper는 스프링 부트 기본 설정과 같게 만듦 (날짜를 숫자 배열 대신 문자열로)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(5)
+public class JsonSerializationBenchmark {
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @State(Scope.Benchmark)
+    public static class SettlementState {
+        @Param({"10", "100", "1000", "10000"})
+        int memberCount;
+
+        List<SettlementResponse> responses;
+
+        @Setup
+        public void setUp() {
+            responses = new ArrayList<>(memberCount);
+            for (long i = 1; i <= memberCount; i++) {
+                long net = (i % 2 == 0 ? 1 : -1) * i * 1_000;
+                responses.add(new SettlementResponse(i, "멤버" + i,
+                        "https://safely.s3.ap-northeast-2.amazonaws.com/profile/" + i + "/image_w128.jpg",
+                        net, Math.max(0, -net), Math.max(0, net)));
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ExpenseState {
+        @Param({"100", "10000", "100000"})
+        int expenseCount;
+
+        ExpenseScrollResponse response;
+
+        @Setup
+        public void setUp() {
+            List<ExpenseResponse> expenses = new ArrayList<>(expenseCount);
+            for (long i = 1; i <= expenseCount; i++) {
+                expenses.add(new ExpenseResponse(i, "장소" + i, i * 100, "결제자" + (i % 10),
+                        LocalDate.of(2025, 1, 1).plusDays(i % 365), "식비", (int) (i % 6) + 1));
+            }
+            response = new ExpenseScrollResponse(expenses, "eyJleHBlbnNlSWQiOjF9", true);
+        }
+    }
+
+    @Benchmark
+    public byte[] settlementPreview(SettlementState state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(state.responses);
+    }
+
+    @Benchmark
+    public byte[] expenseScroll(ExpenseState state) throws JsonProcessingException {
+        return OBJECT_MAPPER.writeValueAsBytes(state.response);
+    }
+}
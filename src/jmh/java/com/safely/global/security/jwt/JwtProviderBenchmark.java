@@ -0,0 +1,72 @@
+package com.safely.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// JwtAuthenticationFilter가 요청마다 하는 토큰 처리(검증 + 인증 객체 생성)와 로그인 시 토큰 발급 처리량 비교.
+// Redis 블랙리스트 조회와 회원 조회는 제외하기 위해 무상태 모드로 인증 객체를 만듦.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(5)
+@State(Scope.Benchmark)
+public class JwtProviderBenchmark {
+    private static final String SECRET = "benchmark-very-long-secret-key-for-jwt-provider-0123456789";
+
+    JwtProvider cached;
+    JwtProvider uncached;
+    SecretKey key;
+    String token;
+
+    @Setup
+    public void setUp() {
+        cached = provider(10_000);
+        uncached = provider(0);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        token = cached.generateAccessToken(1L, "user@safely.com", "ROLE_USER");
+    }
+
+    // 변경 전: validateToken()과 getAuthentication()에서 파서를 새로 만들어 서명을 두 번 검증
+    @Benchmark
+    public Claims legacyParseTwice() {
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    // 미리 만든 파서로 한 번만 검증 (캐시 미사용)
+    @Benchmark
+    public Authentication parseOnceUncached() {
+        return uncached.getAuthentication(uncached.parseOnce(token).orElseThrow());
+    }
+
+    // 같은 토큰이 반복해서 들어오는 경우 (캐시 적중, 서명 검증 생략)
+    @Benchmark
+    public Authentication parseOnceCached() {
+        return cached.getAuthentication(cached.parseOnce(token).orElseThrow());
+    }
+
+    // 로그인/재발급 시 Access Token 발급 (jti 생성 + HMAC 서명)
+    @Benchmark
+    public String generateAccessToken() {
+        return uncached.generateAccessToken(1L, "user@safely.com", "ROLE_USER");
+    }
+
+    private static JwtProvider provider(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setAccessTokenExpireMs(TimeUnit.HOURS.toMillis(1));
+        properties.setStatelessPrincipal(true);
+        properties.setVerifiedTokenCacheSize(cacheSize);
+        JwtProvider provider = new JwtProvider(properties, null);
+        provider.init();
+        return provider;
+    }
+}
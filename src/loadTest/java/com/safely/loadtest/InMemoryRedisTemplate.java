@@ -0,0 +1,57 @@
+package com.safely.loadtest;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 부하 테스트용 Redis 대역. 앱이 쓰는 명령(GET/SET/SETNX/INCR/DEL)만 메모리 맵으로 처리함.
+// TTL은 무시하고(테스트 시간 동안 만료될 키가 없음), SCAN은 지원하지 않아서 블랙리스트 필터 동기화는 실패 상태로 남고
+// 토큰 검사는 매번 GET으로 처리됨 (Redis 장애 시와 같은 경로). 실제 Redis 왕복 지연은 측정에 포함되지 않음.
+public class InMemoryRedisTemplate extends RedisTemplate<String, String> {
+    private final Map<String, String> store = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = (ValueOperations<String, String>) Proxy.newProxyInstance(
+            ValueOperations.class.getClassLoader(), new Class<?>[]{ValueOperations.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "get" -> store.get((String) args[0]);
+                case "set" -> {
+                    store.put((String) args[0], (String) args[1]);
+                    yield null;
+                }
+                case "setIfAbsent" -> store.putIfAbsent((String) args[0], (String) args[1]) == null;
+                case "increment" -> Long.parseLong(store.merge((String) args[0], "1",
+                        (before, one) -> String.valueOf(Long.parseLong(before) + 1)));
+                default -> throw new UnsupportedOperationException("부하 테스트 Redis 대역 미지원: " + method.getName());
+            });
+
+    // 연결 팩토리 없이 사용하므로 초기화 검증을 건너뜀
+    @Override
+    public void afterPropertiesSet() {
+    }
+
+    @Override
+    public ValueOperations<String, String> opsForValue() {
+        return valueOperations;
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        return store.remove(key) != null;
+    }
+
+    @Override
+    public Cursor<String> scan(ScanOptions options) {
+        throw new UnsupportedOperationException("부하 테스트 Redis 대역 미지원: scan");
+    }
+
+    @Override
+    public Long convertAndSend(String channel, Object message) {
+        return 0L;
+    }
+}
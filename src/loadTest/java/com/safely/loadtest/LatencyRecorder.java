@@ -0,0 +1,45 @@
+package com.safely.loadtest;
+
+import java.util.Arrays;
+
+// 엔드포인트 하나의 응답 시간(ns)과 결과 수. 요청 수가 수십만 건 이하라 전부 보관했다가 정렬해서 정확한 분위수를 계산함
+public class LatencyRecorder {
+    private long[] latencies = new long[1024];
+    private int count;
+    private int conflicts;
+    private int errors;
+
+    public synchronized void record(long nanos, int status) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        if (status == 409) {
+            conflicts++; // 동시 수정 충돌 (@Retryable 재시도 후에도 실패). 예상된 결과라 오류로 세지 않음
+        } else if (status < 200 || status >= 300) {
+            errors++;
+        }
+    }
+
+    public synchronized Summary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new Summary(count, conflicts, errors, count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    public record Summary(int count, int conflicts, int errors, double throughput,
+                          double p50Ms, double p95Ms, double p99Ms) {
+        public double errorRate() {
+            return count == 0 ? 0 : (double) errors / count;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.safely.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safely.domain.auth.dto.LoginRequest;
+import com.safely.domain.auth.dto.SignupRequest;
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.group.dto.GroupCreateRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 노드 사이징용 부하 테스트. dev 프로필(H2)로 앱을 실제 포트에 띄우고, 가상 사용자들이 그룹 단위로
+// 로그인 -> 내 그룹 목록 -> 그룹 상세 -> 지출 등록 -> 공용 지출 수정(같은 그룹끼리 충돌) -> 정산 프리뷰 -> (가끔) 정산 확정을 반복함.
+// 엔드포인트별 처리량과 p50/p95/p99를 build/reports/loadtest/summary.md에 남기고, loadtest-budgets.properties의 예산을 넘으면 실패함.
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "storage.type=local",
+                "spring.cloud.aws.s3.bucket=loadtest",
+                "spring.cloud.aws.credentials.access-key=loadtest",
+                "spring.cloud.aws.credentials.secret-key=loadtest",
+                "jwt.blacklist.pubsub-enabled=false",
+                "management.server.port=0", // 관리 포트도 임의 포트로 띄움
+                // dev 프로필의 SQL/바인딩 로그는 부하 중에 측정값을 왜곡하므로 끔
+                "logging.level.org.hibernate.SQL=warn",
+                "logging.level.org.hibernate.orm.jdbc.bind=warn",
+                "logging.level.com.safely=warn"
+        })
+@ActiveProfiles("dev")
+@Import(SafelyLoadTest.RedisStandInConfig.class)
+class SafelyLoadTest {
+    private static final String PASSWORD = "pass1234!";
+    private static final List<String> ENDPOINTS = List.of(
+            "login", "getMyGroups", "getGroupDetail", "createExpense", "updateExpense", "settlementPreview", "settlementComplete");
+
+    private final int users = Integer.getInteger("loadtest.users", 20);
+    private final int groupSize = Integer.getInteger("loadtest.groupSize", 4);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private final int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    // 요청 시작 시각이 이 구간 안에 있는 호출만 기록함 (워밍업 중 시작했거나 종료 후 끝난 요청 제외)
+    private volatile long measureFrom = Long.MAX_VALUE;
+    private volatile long measureUntil = Long.MIN_VALUE;
+
+    @LocalServerPort int port;
+    @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads;
+
+    @TestConfiguration
+    static class RedisStandInConfig {
+        @Bean
+        @Primary
+        RedisTemplate<String, String> inMemoryRedisTemplate() {
+            return new InMemoryRedisTemplate();
+        }
+    }
+
+    @Test
+    @DisplayName("부하 테스트: 엔드포인트별 응답 시간과 처리량이 예산 안에 있어야 한다.")
+    void runScenario() throws Exception {
+        ENDPOINTS.forEach(endpoint -> recorders.put(endpoint, new LatencyRecorder()));
+        List<VirtualUser> virtualUsers = prepare();
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        long warmupEnd = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = warmupEnd + Duration.ofSeconds(durationSeconds).toNanos();
+        measureFrom = warmupEnd;
+        measureUntil = end;
+        List<Future<?>> futures = new ArrayList<>();
+        for (VirtualUser user : virtualUsers) {
+            futures.add(executor.submit(() -> {
+                user.run(end);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        Map<String, LatencyRecorder.Summary> summaries = new LinkedHashMap<>();
+        recorders.forEach((endpoint, recorder) -> summaries.put(endpoint, recorder.summarize(durationSeconds)));
+        writeReport(summaries);
+
+        List<String> violations = checkBudgets(summaries);
+        assertThat(violations).as("부하 테스트 예산 초과").isEmpty();
+    }
+
+    // 회원 가입, 그룹 생성/가입, 그룹마다 서로 수정할 공용 지출 하나를 만듦 (측정하지 않음)
+    private List<VirtualUser> prepare() throws Exception {
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<VirtualUser> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + runId + "-" + i + "@safely.com";
+            JsonNode signup = send("POST", "/api/auth/signup", null, new SignupRequest(email, PASSWORD, "부하" + i), 200);
+            virtualUsers.add(new VirtualUser(email, signup.get("id").asLong()));
+        }
+
+        for (int start = 0; start < users; start += groupSize) {
+            List<VirtualUser> members = virtualUsers.subList(start, Math.min(users, start + groupSize));
+            VirtualUser owner = members.get(0);
+            members.forEach(VirtualUser::login);
+
+            long groupId = send("POST", "/api/groups", owner.token,
+                    new GroupCreateRequest("부하 테스트 " + start, LocalDate.now(), LocalDate.now().plusDays(3), "Seoul"), 200).asLong();
+            String inviteCode = send("GET", "/api/groups/" + groupId, owner.token, null, 200).get("inviteCode").asText();
+            for (VirtualUser member : members.subList(1, members.size())) {
+                send("POST", "/api/groups/join?inviteCode=" + inviteCode, member.token, null, 200);
+            }
+
+            List<Long> memberIds = members.stream().map(member -> member.memberId).toList();
+            long sharedExpenseId = send("POST", "/api/groups/" + groupId + "/expenses", owner.token,
+                    expense(owner.memberId, memberIds, 10_000), 200).asLong();
+            members.forEach(member -> member.joinGroup(groupId, memberIds, sharedExpenseId));
+        }
+        return virtualUsers;
+    }
+
+    private class VirtualUser {
+        final String email;
+        final long memberId;
+        String token;
+        long groupId;
+        List<Long> memberIds;
+        long sharedExpenseId;
+
+        VirtualUser(String email, long memberId) {
+            this.email = email;
+            this.memberId = memberId;
+        }
+
+        void joinGroup(long groupId, List<Long> memberIds, long sharedExpenseId) {
+            this.groupId = groupId;
+            this.memberIds = memberIds;
+            this.sharedExpenseId = sharedExpenseId;
+        }
+
+        void login() {
+            JsonNode response = call("login", "POST", "/api/auth/login", null, new LoginRequest(email, PASSWORD));
+            if (response != null) {
+                token = response.get("accessToken").asText();
+            }
+        }
+
+        void run(long end) {
+            for (int iteration = 1; System.nanoTime() < end; iteration++) {
+                // 토큰 재발급 대신 주기적으로 다시 로그인해서 BCrypt 비용도 섞이게 함
+                if (iteration % 5 == 0) {
+                    login();
+                }
+                String groupPath = "/api/groups/" + groupId;
+                long amount = ThreadLocalRandom.current().nextLong(1, 500) * 100;
+
+                call("getMyGroups", "GET", "/api/groups", token, null);
+                call("getGroupDetail", "GET", groupPath, token, null);
+                call("createExpense", "POST", groupPath + "/expenses", token, expense(memberId, memberIds, amount));
+                call("updateExpense", "PUT", groupPath + "/expenses/" + sharedExpenseId, token, expense(memberId, memberIds, amount));
+                call("settlementPreview", "GET", groupPath + "/settlements/preview", token, null);
+                if (iteration % 10 == 0) {
+                    call("settlementComplete", "POST", groupPath + "/settlements/complete", token, null);
+                }
+            }
+        }
+    }
+
+    private ExpenseCreateRequest expense(long payerId, List<Long> participantIds, long amount) {
+        return new ExpenseCreateRequest(LocalDate.now(), "부하 테스트", ExpenseCategory.FOOD, amount, payerId, participantIds);
+    }
+
+    // 측정 구간이면 응답 시간을 기록함. 실패 응답이면 null
+    private JsonNode call(String endpoint, String method, String path, String token, Object body) {
+        long start = System.nanoTime();
+        int status;
+        String responseBody = null;
+        try {
+            HttpResponse<String> response = httpClient.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+            status = response.statusCode();
+            responseBody = response.body();
+        } catch (IOException e) {
+            status = -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        }
+        if (start >= measureFrom && start < measureUntil) {
+            recorders.get(endpoint).record(System.nanoTime() - start, status);
+        }
+        return status == 200 ? readTree(responseBody) : null;
+    }
+
+    private JsonNode send(String method, String path, String token, Object body, int expectedStatus) throws Exception {
+        HttpResponse<String> response = httpClient.send(request(method, path, token, body), HttpResponse.BodyHandlers.ofString());
+        assertThat(response.statusCode()).as("%s %s: %s", method, path, response.body()).isEqualTo(expectedStatus);
+        return readTree(response.body());
+    }
+
+    private HttpRequest request(String method, String path, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return body == null || body.isEmpty() ? objectMapper.nullNode() : objectMapper.readTree(body);
+        } catch (IOException e) {
+            return objectMapper.nullNode();
+        }
+    }
+
+    private void writeReport(Map<String, LatencyRecorder.Summary> summaries) throws IOException {
+        StringBuilder report = new StringBuilder()
+                .append("# Load test summary\n\n")
+                .append(String.format("- users: %d (group size %d), warmup: %ds, measured: %ds, threads: %s%n%n",
+                        users, groupSize, warmupSeconds, durationSeconds, virtualThreads ? "virtual" : "platform"))
+                .append("| endpoint | requests | conflicts(409) | errors | req/s | p50 ms | p95 ms | p99 ms |\n")
+                .append("| :--- | ---: | ---: | ---: | ---: | ---: | ---: | ---: |\n");
+        summaries.forEach((endpoint, s) -> report.append(String.format("| %s | %d | %d | %d | %.1f | %.1f | %.1f | %.1f |%n",
+                endpoint, s.count(), s.conflicts(), s.errors(), s.throughput(), s.p50Ms(), s.p95Ms(), s.p99Ms())));
+
+        Path directory = Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.md"), report);
+        System.out.println(report);
+    }
+
+    // 예산 키: <endpoint>.p50 / .p95 / .p99 (ms 상한), <endpoint>.min-throughput (초당 요청 수 하한), max-error-rate (전체 공통)
+    private List<String> checkBudgets(Map<String, LatencyRecorder.Summary> summaries) throws IOException {
+        Properties budgets = PropertiesLoaderUtils.loadProperties(new ClassPathResource("loadtest-budgets.properties"));
+        double maxErrorRate = Double.parseDouble(budgets.getProperty("max-error-rate", "0"));
+
+        List<String> violations = new ArrayList<>();
+        summaries.forEach((endpoint, s) -> {
+            // 요청이 하나도 기록되지 않았으면 (모두 측정 구간을 넘겨 멈춘 경우 등) 예산을 통과한 것으로 보지 않음
+            if (s.count() == 0) {
+                violations.add(endpoint + ": 측정 구간에 완료된 요청 없음");
+                return;
+            }
+            checkMax(violations, budgets, endpoint + ".p50", s.p50Ms());
+            checkMax(violations, budgets, endpoint + ".p95", s.p95Ms());
+            checkMax(violations, budgets, endpoint + ".p99", s.p99Ms());
+            String minThroughput = budgets.getProperty(endpoint + ".min-throughput");
+            if (minThroughput != null && s.throughput() < Double.parseDouble(minThroughput)) {
+                violations.add(String.format("%s.min-throughput: %.1f < %s", endpoint, s.throughput(), minThroughput));
+            }
+            if (s.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s.error-rate: %.4f > %s", endpoint, s.errorRate(), maxErrorRate));
+            }
+        });
+        return violations;
+    }
+
+    private void checkMax(List<String> violations, Properties budgets, String key, double actual) {
+        String limit = budgets.getProperty(key);
+        if (limit != null && actual > Double.parseDouble(limit)) {
+            violations.add(String.format("%s: %.1fms > %sms", key, actual, limit));
+        }
+    }
+}
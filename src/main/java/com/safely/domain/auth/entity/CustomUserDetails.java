@@ -14,6 +14,16 @@ import java.util.List;
 public class CustomUserDetails implements UserDetails {
     private final Member member;
 
+    // 무상태 모드: 토큰 클레임만으로 인증 주체를 구성 (비밀번호/이름 등은 비어있음)
+    public static CustomUserDetails fromClaims(Long memberId, String email, String authority) {
+        return new CustomUserDetails(Member.builder()
+                .id(memberId)
+                .email(email)
+                .password("")
+                .authority(authority)
+                .build());
+    }
+
     @Override
     public String getUsername() {
         return member.getEmail();
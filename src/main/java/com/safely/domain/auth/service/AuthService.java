@@ -8,9 +8,11 @@ import com.safely.global.exception.auth.EmailDuplicateException;
 import com.safely.global.exception.auth.InvalidTokenException;
 import com.safely.global.exception.auth.RefreshTokenNotFoundException;
 import com.safely.global.exception.common.EntityNotFoundException;
+import com.safely.global.security.jwt.AccessTokenBlacklist;
 import com.safely.global.security.jwt.JwtProvider;
 import com.safely.domain.member.entity.Member;
 import com.safely.domain.member.repository.MemberRepository;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -21,6 +23,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 @Slf4j
@@ -32,6 +35,7 @@ public class AuthService {
     private final JwtProvider jwtProvider;
     private final RedisTemplate<String, String> redisTemplate;
     private final PasswordEncoder passwordEncoder;
+    private final AccessTokenBlacklist accessTokenBlacklist;
 
     public TokenResponse login(LoginRequest request) {
         log.info("[*] 로그인 시도: Email={}", request.email());
@@ -109,13 +113,13 @@ public class AuthService {
     public TokenResponse reIssue(RefreshTokenRequest request) {
         String refreshToken = request.refreshToken();
 
-        if (!jwtProvider.validateToken(refreshToken)) {
-            log.warn("[!] 토큰 재발급 실패: 유효하지 않은 리프레시 토큰");
-            throw new InvalidTokenException();
-        }
+        Claims claims = jwtProvider.parseOnce(refreshToken)
+                .orElseThrow(() -> {
+                    log.warn("[!] 토큰 재발급 실패: 유효하지 않은 리프레시 토큰");
+                    return new InvalidTokenException();
+                });
 
-        Long userId =
-                Long.valueOf(jwtProvider.getSubject(refreshToken));
+        Long userId = Long.valueOf(claims.getSubject());
         String key = "refresh:" + userId;
 
         String storedRefreshToken =
@@ -161,24 +165,19 @@ public class AuthService {
 
     public void logout(String accessToken) {
 
-        if (!jwtProvider.validateToken(accessToken)) {
+        Optional<Claims> claims = jwtProvider.parseOnce(accessToken);
+        if (claims.isEmpty()) {
             log.warn("[!] 로그아웃 실패: 유효하지 않은 액세스 토큰 요청");
             return;
         }
 
-        Long userId =
-                Long.valueOf(jwtProvider.getSubject(accessToken));
+        Long userId = Long.valueOf(claims.get().getSubject());
 
         long remainMs =
-                jwtProvider.getRemainExpiration(accessToken);
-
-        // access 토큰 블랙리스트 처리
-        redisTemplate.opsForValue().set(
-                "blacklist:access:" + accessToken,
-                "logout",
-                remainMs,
-                TimeUnit.MILLISECONDS
-        );
+                jwtProvider.getRemainExpiration(claims.get());
+
+        // access 토큰 블랙리스트 처리 (jti 키로 저장하고 다른 서버의 로컬 필터에도 전파)
+        accessTokenBlacklist.revoke(claims.get(), accessToken, remainMs);
 
         // refresh 토큰 삭제
         String key = "refresh:" + userId;
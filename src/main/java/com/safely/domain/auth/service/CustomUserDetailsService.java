@@ -8,14 +8,16 @@ import com.safely.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     private final MemberRepository memberRepository;
 
     @Override
@@ -30,4 +32,28 @@ public class CustomUserDetailsService implements UserDetailsService {
 
         return new CustomUserDetails(member);
     }
+
+    // JWT 인증 시 사용 (토큰의 subject = 회원 ID). 매 요청마다 호출되므로 로그는 DEBUG로 남김.
+    public CustomUserDetails loadUserById(Long memberId) {
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> {
+                    log.warn("[!] 인증 실패: 존재하지 않는 유저 MemberID={}", memberId);
+                    return new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND);
+                });
+
+        log.debug("[*] 인증 유저 정보 로드: MemberID={}", memberId);
+        return new CustomUserDetails(member);
+    }
+
+    // 로그인 성공 후 저장된 해시의 BCrypt cost가 설정값과 다르면 Spring Security가 새 해시로 호출함
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND));
+        member.updatePassword(newPassword);
+
+        log.info("[*] 비밀번호 해시 cost 변경으로 재해시: MemberID={}", member.getId());
+        return new CustomUserDetails(member);
+    }
 }
@@ -0,0 +1,47 @@
+package com.safely.domain.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safely.domain.auth.entity.CustomUserDetails;
+import com.safely.global.security.jwt.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+// 인증된 요청마다 회원 정보를 DB에서 읽지 않도록, 회원 ID 기준으로 인증 주체를 서버 메모리에 잠깐 보관함.
+// 회원 정보 수정/탈퇴 시 evict() 해야 하며, 다른 서버의 캐시는 TTL이 지나면 갱신됨.
+@Slf4j
+@Component
+public class PrincipalCache {
+    private final CustomUserDetailsService userDetailsService;
+    private final Cache<Long, CustomUserDetails> cache;
+
+    public PrincipalCache(CustomUserDetailsService userDetailsService, JwtProperties jwtProperties) {
+        this.userDetailsService = userDetailsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCache().getMaxSize())
+                .expireAfterWrite(Duration.ofMillis(jwtProperties.getPrincipalCache().getTtlMs()))
+                .build();
+    }
+
+    public CustomUserDetails get(Long memberId) {
+        return cache.get(memberId, userDetailsService::loadUserById);
+    }
+
+    // 커밋 전에 다른 요청이 이전 값을 다시 채울 수 있으므로, 즉시 한 번 + 커밋 후 한 번 비움
+    public void evict(Long memberId) {
+        cache.invalidate(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(memberId);
+                }
+            });
+        }
+        log.debug("[-] 인증 주체 캐시 삭제: MemberID={}", memberId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.safely.domain.expense;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum SplitType {
+    EQUAL("균등 분배"),
+    SHARES("가중치(몫) 비율"),
+    PERCENT("퍼센트 (0.01% 단위, 합계 10000)"),
+    EXACT("금액 직접 지정"),
+    ITEMIZED("영수증 항목별");
+
+    private final String description;
+}
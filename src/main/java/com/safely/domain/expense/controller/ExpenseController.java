@@ -1,13 +1,23 @@
 package com.safely.domain.expense.controller;
 
+import com.safely.domain.expense.ExpenseCategory;
 import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.dto.ExpenseImportResponse;
 import com.safely.domain.expense.dto.ExpenseResponse;
+import com.safely.domain.expense.dto.ExpenseScrollResponse;
+import com.safely.domain.expense.dto.ExpenseSearchCondition;
+import com.safely.domain.expense.service.ExpenseImportService;
 import com.safely.domain.expense.service.ExpenseService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -15,6 +25,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ExpenseController {
     private final ExpenseService expenseService;
+    private final ExpenseImportService expenseImportService;
 
     @PostMapping
     public ResponseEntity<Long> createExpense(
@@ -24,12 +35,35 @@ public class ExpenseController {
         return ResponseEntity.ok(expenseId);
     }
 
+    // 본문을 한 줄씩 스트리밍으로 읽어서 등록 (text/csv 또는 application/x-ndjson)
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ExpenseImportResponse> importExpenses(
+            @PathVariable Long groupId,
+            HttpServletRequest request) throws IOException {
+        boolean ndjson = request.getContentType().startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+        ExpenseImportService.Format format = ndjson ? ExpenseImportService.Format.NDJSON : ExpenseImportService.Format.CSV;
+        return ResponseEntity.ok(expenseImportService.importExpenses(groupId, request.getInputStream(), format));
+    }
+
     @GetMapping
     public ResponseEntity<List<ExpenseResponse>> getExpenses(
             @PathVariable Long groupId) {
         return ResponseEntity.ok(expenseService.getExpenses(groupId));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ExpenseScrollResponse> scrollExpenses(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) ExpenseCategory category,
+            @RequestParam(required = false) Long payerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExpenseSearchCondition condition = new ExpenseSearchCondition(category, payerId, from, to);
+        return ResponseEntity.ok(expenseService.scrollExpenses(groupId, condition, cursor, size));
+    }
+
     @PutMapping("/{expenseId}")
     public ResponseEntity<Void> updateExpense(
             @PathVariable Long groupId,
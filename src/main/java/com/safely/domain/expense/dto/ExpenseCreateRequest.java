@@ -1,15 +1,24 @@
 package com.safely.domain.expense.dto;
 
 import com.safely.domain.expense.ExpenseCategory;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 import java.util.List;
 
 public record ExpenseCreateRequest(
         @NotNull(message = "결제일은 필수입니다.") LocalDate spentDate,
-        @NotNull(message = "장소는 필수입니다.") String location,
+        @NotNull(message = "장소는 필수입니다.") @Size(max = 255, message = "장소는 255자 이하여야 합니다.") String location,
         @NotNull(message = "항목은 필수입니다.") ExpenseCategory category,
         @NotNull(message = "금액은 필수입니다.") Long amount,
         @NotNull(message = "결제자는 필수입니다.") Long payerId, // 결제한 멤버의 ID
-        @NotNull(message = "참여 인원은 최소 1명 이상이어야 합니다.") List<Long> participantMemberIds // 함께한 멤버 ID 리스트
-) {}
\ No newline at end of file
+        @NotNull(message = "참여 인원은 최소 1명 이상이어야 합니다.") List<Long> participantMemberIds, // 함께한 멤버 ID 리스트
+        @Valid ExpenseSplitRequest split // 분배 방식 (생략하면 균등 분배)
+) {
+    // 균등 분배 요청
+    public ExpenseCreateRequest(LocalDate spentDate, String location, ExpenseCategory category, Long amount,
+                                Long payerId, List<Long> participantMemberIds) {
+        this(spentDate, location, category, amount, payerId, participantMemberIds, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.safely.domain.expense.dto;
+
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 지출 목록 커서 (마지막으로 받은 지출의 정렬 키). 클라이언트에는 Base64 문자열로만 노출함.
+public record ExpenseCursor(
+        LocalDate spentDate,
+        LocalDateTime createdAt,
+        Long expenseId
+) {
+    private static final String DELIMITER = "|";
+
+    public static ExpenseCursor from(ExpenseSummary summary) {
+        return new ExpenseCursor(summary.spentDate(), summary.createdAt(), summary.expenseId());
+    }
+
+    public String encode() {
+        String raw = spentDate + DELIMITER + createdAt + DELIMITER + expenseId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ExpenseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("cursor must have 3 parts: " + raw);
+            }
+            return new ExpenseCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+}
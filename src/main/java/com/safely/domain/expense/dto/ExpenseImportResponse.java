@@ -0,0 +1,13 @@
+package com.safely.domain.expense.dto;
+
+import java.util.List;
+
+// 대량 등록 결과 (실패한 행은 저장하지 않고 줄 번호와 사유만 반환)
+public record ExpenseImportResponse(
+        int totalRows,
+        int importedRows,
+        int failedRows,
+        List<RowError> errors
+) {
+    public record RowError(long line, String message) {}
+}
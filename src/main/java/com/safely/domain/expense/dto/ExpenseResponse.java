@@ -1,6 +1,5 @@
 package com.safely.domain.expense.dto;
 
-import com.safely.domain.expense.entity.Expense;
 import java.time.LocalDate;
 
 // 목록 조회용 DTO
@@ -13,15 +12,15 @@ public record ExpenseResponse(
         String category,
         int participantCount
 ) {
-    public static ExpenseResponse from(Expense expense) {
+    public static ExpenseResponse from(ExpenseSummary summary) {
         return new ExpenseResponse(
-                expense.getId(),
-                expense.getLocation(),
-                expense.getAmount(),
-                expense.getPayer().getName(),
-                expense.getSpentDate(),
-                expense.getCategory().getDescription(),
-                expense.getParticipants().size()
+                summary.expenseId(),
+                summary.location(),
+                summary.amount(),
+                summary.payerName(),
+                summary.spentDate(),
+                summary.category().getDescription(),
+                summary.participantCount().intValue()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.safely.domain.expense.dto;
+
+import java.util.List;
+
+// 커서 기반 목록 조회용 DTO (hasNext가 true이면 nextCursor로 다음 페이지 요청)
+public record ExpenseScrollResponse(
+        List<ExpenseResponse> expenses,
+        String nextCursor,
+        boolean hasNext
+) {
+}
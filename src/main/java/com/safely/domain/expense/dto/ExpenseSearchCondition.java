@@ -0,0 +1,14 @@
+package com.safely.domain.expense.dto;
+
+import com.safely.domain.expense.ExpenseCategory;
+
+import java.time.LocalDate;
+
+// 지출 목록 필터 (null인 항목은 조건에서 제외)
+public record ExpenseSearchCondition(
+        ExpenseCategory category,
+        Long payerId,
+        LocalDate from,
+        LocalDate to
+) {
+}
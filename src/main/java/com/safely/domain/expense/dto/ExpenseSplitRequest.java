@@ -0,0 +1,25 @@
+package com.safely.domain.expense.dto;
+
+import com.safely.domain.expense.SplitType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+// 분배 방식. 생략하면 균등 분배
+public record ExpenseSplitRequest(
+        @NotNull(message = "분배 방식은 필수입니다.") SplitType type,
+        @Valid List<Share> shares, // SHARES: 가중치, PERCENT: 0.01% 단위 비율, EXACT: 금액 (참여자마다 하나씩)
+        @Valid List<Item> items    // ITEMIZED: 영수증 항목별 금액과 그 항목을 나눠 낼 참여자
+) {
+    public record Share(
+            @NotNull(message = "참여자는 필수입니다.") Long memberId,
+            @NotNull(message = "값은 필수입니다.") Long value
+    ) {}
+
+    public record Item(
+            @NotNull(message = "항목 금액은 필수입니다.") Long amount,
+            @NotEmpty(message = "항목 참여자는 최소 1명 이상이어야 합니다.") List<Long> memberIds
+    ) {}
+}
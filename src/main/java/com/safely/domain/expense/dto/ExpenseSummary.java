@@ -0,0 +1,19 @@
+package com.safely.domain.expense.dto;
+
+import com.safely.domain.expense.ExpenseCategory;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 목록 조회용 JPQL 프로젝션 (엔티티/참여자 컬렉션을 로딩하지 않고 한 번의 쿼리로 필요한 값만 조회)
+public record ExpenseSummary(
+        Long expenseId,
+        String location,
+        Long amount,
+        String payerName,
+        LocalDate spentDate,
+        ExpenseCategory category,
+        LocalDateTime createdAt,
+        Long participantCount
+) {
+}
@@ -2,8 +2,10 @@ package com.safely.domain.expense.entity;
 
 import com.safely.domain.common.entity.BaseEntity;
 import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.SplitType;
 import com.safely.domain.group.entity.Group;
 import com.safely.domain.member.entity.Member;
+import com.safely.global.config.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,15 +14,27 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 @Entity
 @Getter
-@Table(name = "expenses")
+// 목록 조회(group_id + 정렬 키)와 항목/결제자 필터별로 정렬 순서 그대로 읽을 수 있는 인덱스
+@Table(
+        name = "expenses",
+        indexes = {
+                @Index(name = "idx_expenses_group_spent", columnList = "group_id, spent_date, created_at, expense_id"),
+                @Index(name = "idx_expenses_group_category_spent", columnList = "group_id, category, spent_date, created_at, expense_id"),
+                @Index(name = "idx_expenses_group_payer_spent", columnList = "group_id, payer_id, spent_date, created_at, expense_id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Expense extends BaseEntity {
+    // IDENTITY는 INSERT 시점에 바로 실행되어 JDBC 배치가 꺼지므로, id_sequences 테이블에서 ID를 미리 할당받음 (PooledTableId 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("expenses")
     @Column(name = "expense_id")
     private Long id;
 
@@ -48,17 +62,25 @@ public class Expense extends BaseEntity {
     @Column(nullable = false)
     private LocalDate spentDate; // 결제일
 
+    // 마지막으로 적용한 분배 방식. 가중치/금액 지정 값 자체는 저장하지 않으므로,
+    // 균등 분배가 아닌 지출은 분배 정보 없이 금액이나 참여자를 바꿀 수 없음
+    @Enumerated(EnumType.STRING)
+    @Column(name = "split_type", nullable = false, length = 20)
+    private SplitType splitType;
+
     @OneToMany(mappedBy = "expense", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ExpenseParticipant> participants = new ArrayList<>();
 
     @Builder
-    public Expense(Group group, Member payer, Long amount, String location, ExpenseCategory category, LocalDate spentDate) {
+    public Expense(Group group, Member payer, Long amount, String location, ExpenseCategory category, LocalDate spentDate,
+                   SplitType splitType) {
         this.group = group;
         this.payer = payer;
         this.amount = amount;
         this.location = location;
         this.category = category;
         this.spentDate = spentDate;
+        this.splitType = splitType != null ? splitType : SplitType.EQUAL;
     }
 
     public void update(Member payer, Long amount, String location, ExpenseCategory category, LocalDate spentDate) {
@@ -69,11 +91,38 @@ public class Expense extends BaseEntity {
         this.spentDate = spentDate;
     }
 
+    public void changeSplitType(SplitType splitType) {
+        this.splitType = splitType;
+    }
+
     public void addParticipant(ExpenseParticipant participant) {
         this.participants.add(participant);
     }
 
-    public void clearParticipants() {
-        this.participants.clear();
+    // 참여자별 분담 금액(members[i] -> amounts[i])을 목표 상태로 맞춤. 전체를 지우고 다시 만들지 않고,
+    // 그대로인 참여자는 두고 금액이 바뀐 참여자만 수정하며, 새로 들어오거나 빠진 참여자만 추가/삭제(orphanRemoval)함
+    public void syncParticipants(List<Member> members, long[] amounts) {
+        Map<Long, Long> target = new HashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            target.put(members.get(i).getId(), amounts[i]);
+        }
+
+        Iterator<ExpenseParticipant> iterator = this.participants.iterator();
+        while (iterator.hasNext()) {
+            ExpenseParticipant participant = iterator.next();
+            Long amount = target.remove(participant.getMember().getId());
+            if (amount == null) {
+                iterator.remove();
+            } else {
+                participant.changeAmount(amount);
+            }
+        }
+
+        for (int i = 0; i < members.size(); i++) {
+            Member member = members.get(i);
+            if (target.containsKey(member.getId())) {
+                addParticipant(ExpenseParticipant.builder().expense(this).member(member).amount(amounts[i]).build());
+            }
+        }
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.safely.domain.expense.entity;
 
 import com.safely.domain.member.entity.Member;
+import com.safely.global.config.PooledTableId;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -12,8 +13,9 @@ import lombok.NoArgsConstructor;
 @Table(name = "expense_participants")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ExpenseParticipant {
+    // 참여자 INSERT를 배치로 묶기 위해 테이블 기반 ID 할당 사용 (Expense 참고)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledTableId("expense_participants")
     @Column(name = "expense_participant_id")
     private Long id;
 
@@ -34,4 +36,8 @@ public class ExpenseParticipant {
         this.member = member;
         this.amount = amount;
     }
-}
\ No newline at end of file
+
+    public void changeAmount(Long amount) {
+        this.amount = amount;
+    }
+}
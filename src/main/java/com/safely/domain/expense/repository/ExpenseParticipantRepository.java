@@ -0,0 +1,16 @@
+package com.safely.domain.expense.repository;
+
+import com.safely.domain.expense.entity.ExpenseParticipant;
+import com.safely.domain.settlement.dto.MemberAmount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ExpenseParticipantRepository extends JpaRepository<ExpenseParticipant, Long> {
+    // 멤버별 분담금 합계 (엔티티를 만들지 않고 DB에서 바로 합산)
+    @Query("SELECT new com.safely.domain.settlement.dto.MemberAmount(p.member.id, SUM(p.amount)) " +
+            "FROM ExpenseParticipant p WHERE p.expense.group.id = :groupId GROUP BY p.member.id")
+    List<MemberAmount> sumAmountGroupByMember(@Param("groupId") Long groupId);
+}
@@ -1,13 +1,52 @@
 package com.safely.domain.expense.repository;
 
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.dto.ExpenseSummary;
 import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.settlement.dto.MemberAmount;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ExpenseRepository extends JpaRepository<Expense, Long> {
-    @Query("SELECT e FROM Expense e JOIN FETCH e.payer WHERE e.group.id = :groupId ORDER BY e.spentDate DESC, e.createdAt DESC")
-    List<Expense> findAllByGroupId(@Param("groupId") Long groupId);
+    // 목록 응답에 필요한 컬럼과 참여자 수(상관 서브쿼리)만 조회해서, 참여자 컬렉션 초기화 없이 SQL 한 번으로 끝냄
+    String SUMMARY_SELECT = "SELECT new com.safely.domain.expense.dto.ExpenseSummary(" +
+            "e.id, e.location, e.amount, p.name, e.spentDate, e.category, e.createdAt, " +
+            "(SELECT COUNT(ep) FROM ExpenseParticipant ep WHERE ep.expense = e)) " +
+            "FROM Expense e JOIN e.payer p ";
+
+    @Query(SUMMARY_SELECT + "WHERE e.group.id = :groupId ORDER BY e.spentDate DESC, e.createdAt DESC")
+    List<ExpenseSummary> findAllByGroupId(@Param("groupId") Long groupId);
+
+    // 커서(keyset) 기반 목록 조회. OFFSET 없이 마지막으로 받은 (spentDate, createdAt, id) 다음부터 읽음.
+    // cursor*가 null이면 첫 페이지, 필터 파라미터가 null이면 해당 조건은 무시됨.
+    @Query(SUMMARY_SELECT +
+            "WHERE e.group.id = :groupId " +
+            "AND (:category IS NULL OR e.category = :category) " +
+            "AND (:payerId IS NULL OR p.id = :payerId) " +
+            "AND (:from IS NULL OR e.spentDate >= :from) " +
+            "AND (:to IS NULL OR e.spentDate <= :to) " +
+            "AND (:cursorDate IS NULL OR e.spentDate < :cursorDate " +
+            "OR (e.spentDate = :cursorDate AND (e.createdAt < :cursorCreatedAt " +
+            "OR (e.createdAt = :cursorCreatedAt AND e.id < :cursorId)))) " +
+            "ORDER BY e.spentDate DESC, e.createdAt DESC, e.id DESC")
+    List<ExpenseSummary> scrollByGroupId(@Param("groupId") Long groupId,
+                                  @Param("category") ExpenseCategory category,
+                                  @Param("payerId") Long payerId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to,
+                                  @Param("cursorDate") LocalDate cursorDate,
+                                  @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                  @Param("cursorId") Long cursorId,
+                                  Limit limit);
+
+    // 결제자별 결제 금액 합계 (엔티티를 만들지 않고 DB에서 바로 합산)
+    @Query("SELECT new com.safely.domain.settlement.dto.MemberAmount(e.payer.id, SUM(e.amount)) " +
+            "FROM Expense e WHERE e.group.id = :groupId GROUP BY e.payer.id")
+    List<MemberAmount> sumAmountGroupByPayer(@Param("groupId") Long groupId);
 }
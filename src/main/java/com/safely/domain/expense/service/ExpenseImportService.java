@@ -0,0 +1,296 @@
+package com.safely.domain.expense.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.dto.ExpenseImportResponse;
+import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.expense.repository.ExpenseRepository;
+import com.safely.domain.expense.split.ExpenseSplitEngine;
+import com.safely.domain.group.entity.Group;
+import com.safely.domain.group.entity.GroupMember;
+import com.safely.domain.group.repository.GroupMemberRepository;
+import com.safely.domain.group.repository.GroupRepository;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.settlement.service.BalanceLedgerService;
+import com.safely.domain.settlement.service.SettlementPreviewCache;
+import com.safely.global.exception.ErrorCode;
+import com.safely.global.exception.common.EntityNotFoundException;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// 카드 명세서 등 지출 내역 대량 등록.
+// 요청 본문을 한 줄씩 읽으면서 CHUNK_SIZE 단위로 트랜잭션을 나눠 저장하므로, 전체 본문을 메모리에 올리지 않음.
+// 그룹 멤버는 등록 시작 시 한 번만 조회해서 결제자/참여자 확인에 재사용함.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExpenseImportService {
+    static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    public enum Format { CSV, NDJSON }
+
+    private final ExpenseRepository expenseRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SettlementPreviewCache settlementPreviewCache;
+    private final ExpenseSplitEngine expenseSplitEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    // shares[i]는 ID 순으로 정렬한 i번째 참여자의 분담금
+    private record Row(long line, ExpenseCreateRequest request, long[] shares) {}
+
+    // CSV: spentDate,location,category,amount,payerId,participantMemberIds(';'로 구분). 첫 줄이 헤더면 건너뜀.
+    // NDJSON: 한 줄에 ExpenseCreateRequest JSON 객체 하나. split을 지정하면 지출 생성과 같은 방식으로 분배함.
+    public ExpenseImportResponse importExpenses(Long groupId, InputStream body, Format format) throws IOException {
+        if (!groupRepository.existsById(groupId)) {
+            throw new EntityNotFoundException(ErrorCode.GROUP_NOT_FOUND);
+        }
+        Map<Long, Member> members = new HashMap<>();
+        for (GroupMember gm : groupMemberRepository.findAllByGroupIdWithMember(groupId)) {
+            members.put(gm.getMember().getId(), gm.getMember());
+        }
+
+        ImportResult result = new ImportResult();
+        List<Row> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String text;
+            long line = 0;
+            while ((text = reader.readLine()) != null) {
+                line++;
+                if (text.isBlank() || (line == 1 && format == Format.CSV && isCsvHeader(text))) {
+                    continue;
+                }
+                result.total++;
+
+                try {
+                    ExpenseCreateRequest request = format == Format.CSV ? parseCsv(text) : parseJson(text);
+                    validate(request, members);
+                    chunk.add(new Row(line, request, split(request)));
+                } catch (IllegalArgumentException e) {
+                    result.fail(line, e.getMessage());
+                }
+
+                if (chunk.size() == CHUNK_SIZE) {
+                    writeChunk(groupId, chunk, members, result);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(groupId, chunk, members, result);
+        }
+
+        if (result.imported > 0) {
+            settlementPreviewCache.evictAfterCommit(groupId);
+        }
+        log.info("[+] 지출 대량 등록 완료: GroupID={}, Total={}, Imported={}, Failed={}",
+                groupId, result.total, result.imported, result.failed);
+        return new ExpenseImportResponse(result.total, result.imported, result.failed, result.errors);
+    }
+
+    // 청크 하나 = 트랜잭션 하나. 지출/참여자는 JDBC 배치로 저장되고, 원장 증감도 청크 단위로 합쳐서 한 번만 반영함.
+    // 저장에 실패하면 청크를 반으로 나눠 다시 저장해서, 문제 있는 줄만 사유와 함께 실패로 남기고 나머지는 등록함.
+    private void writeChunk(Long groupId, List<Row> chunk, Map<Long, Member> members, ImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                balanceLedgerService.ensureInitialized(groupId);
+                Group group = groupRepository.getReferenceById(groupId);
+
+                Map<Long, Long> contribution = new HashMap<>();
+                for (Row row : chunk) {
+                    Expense expense = toExpense(group, row, members);
+                    expenseRepository.save(expense);
+                    BalanceLedgerService.contributionOf(expense)
+                            .forEach((memberId, amount) -> contribution.merge(memberId, amount, Long::sum));
+                }
+                balanceLedgerService.applyChange(groupId, Map.of(), contribution);
+
+                // 다음 청크를 위해 영속성 컨텍스트 비우기 (대량 등록 중 메모리 증가 방지)
+                entityManager.flush();
+                entityManager.clear();
+            });
+            result.imported += chunk.size();
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                long line = chunk.get(0).line();
+                log.warn("[!] 지출 대량 등록 행 저장 실패: GroupID={}, Line={}, Error={}", groupId, line, e.getMessage());
+                result.fail(line, "저장에 실패했습니다: " + causeOf(e));
+                return;
+            }
+            log.warn("[!] 지출 대량 등록 청크 저장 실패, 나눠서 재시도: GroupID={}, FirstLine={}, Size={}, Error={}",
+                    groupId, chunk.get(0).line(), chunk.size(), e.getMessage());
+            int half = chunk.size() / 2;
+            writeChunk(groupId, chunk.subList(0, half), members, result);
+            writeChunk(groupId, chunk.subList(half, chunk.size()), members, result);
+        }
+    }
+
+    // DB 오류 메시지는 첫 줄만 사용 (뒤에 SQL 문이 붙는 드라이버가 있음)
+    private static String causeOf(RuntimeException e) {
+        String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        if (message == null) {
+            return e.getClass().getSimpleName();
+        }
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+
+    private Expense toExpense(Group group, Row row, Map<Long, Member> members) {
+        ExpenseCreateRequest request = row.request();
+        Expense expense = Expense.builder()
+                .group(group)
+                .payer(members.get(request.payerId()))
+                .amount(request.amount())
+                .location(request.location())
+                .category(request.category())
+                .spentDate(request.spentDate())
+                .splitType(request.split() != null ? request.split().type() : SplitType.EQUAL)
+                .build();
+
+        List<Member> participants = request.participantMemberIds().stream().sorted().map(members::get).toList();
+        ExpenseService.addParticipants(expense, participants, row.shares());
+        return expense;
+    }
+
+    // ExpenseService와 같이 참여자를 ID 순으로 정렬해서 분배함 (요청의 참여자 순서와 관계없이 같은 결과)
+    private long[] split(ExpenseCreateRequest request) {
+        long[] sortedIds = request.participantMemberIds().stream().mapToLong(Long::longValue).sorted().toArray();
+        try {
+            return expenseSplitEngine.split(request.amount(), sortedIds, request.split());
+        } catch (InvalidExpenseSplitException e) {
+            throw new IllegalArgumentException(e.getMessage());
+        }
+    }
+
+    private void validate(ExpenseCreateRequest request, Map<Long, Member> members) {
+        Set<ConstraintViolation<ExpenseCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.iterator().next().getMessage());
+        }
+        if (request.amount() <= 0) {
+            throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+        }
+        if (!members.containsKey(request.payerId())) {
+            throw new IllegalArgumentException("그룹 멤버가 아닌 결제자입니다: " + request.payerId());
+        }
+        if (request.participantMemberIds().isEmpty()) {
+            throw new IllegalArgumentException("참여 인원은 최소 1명 이상이어야 합니다.");
+        }
+        Set<Long> seen = new HashSet<>();
+        for (Long participantId : request.participantMemberIds()) {
+            if (!members.containsKey(participantId)) {
+                throw new IllegalArgumentException("그룹 멤버가 아닌 참여자입니다: " + participantId);
+            }
+            // 같은 참여자가 두 번 들어가면 참여자 행이 두 개 생기고 분담금도 두 번 차감됨 (ExpenseService와 같은 규칙)
+            if (!seen.add(participantId)) {
+                throw new IllegalArgumentException("참여자가 중복되었습니다: " + participantId);
+            }
+        }
+    }
+
+    private ExpenseCreateRequest parseJson(String text) {
+        try {
+            return objectMapper.readValue(text, ExpenseCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private ExpenseCreateRequest parseCsv(String text) {
+        List<String> fields = splitCsvLine(text);
+        if (fields.size() != 6) {
+            throw new IllegalArgumentException("컬럼 수가 올바르지 않습니다. (6개 필요, " + fields.size() + "개)");
+        }
+        try {
+            List<Long> participantIds = new ArrayList<>();
+            for (String id : fields.get(5).split(";")) {
+                if (!id.isBlank()) participantIds.add(Long.parseLong(id.trim()));
+            }
+            return new ExpenseCreateRequest(
+                    LocalDate.parse(fields.get(0).trim()),
+                    fields.get(1),
+                    ExpenseCategory.valueOf(fields.get(2).trim().toUpperCase(Locale.ROOT)),
+                    Long.parseLong(fields.get(3).trim()),
+                    Long.parseLong(fields.get(4).trim()),
+                    participantIds);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("값 형식이 올바르지 않습니다: " + e.getMessage());
+        }
+    }
+
+    private boolean isCsvHeader(String text) {
+        return text.strip().toLowerCase(Locale.ROOT).startsWith("spentdate");
+    }
+
+    // 큰따옴표로 감싼 필드 안의 쉼표/따옴표("")를 처리하는 한 줄 단위 CSV 분리 (필드 안 줄바꿈은 지원하지 않음)
+    static List<String> splitCsvLine(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class ImportResult {
+        int total;
+        int imported;
+        int failed;
+        final List<ExpenseImportResponse.RowError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ExpenseImportResponse.RowError(line, message));
+            }
+        }
+    }
+}
@@ -1,43 +1,68 @@
 package com.safely.domain.expense.service;
 
+import com.safely.domain.expense.SplitType;
 import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.dto.ExpenseCursor;
 import com.safely.domain.expense.dto.ExpenseResponse;
+import com.safely.domain.expense.dto.ExpenseScrollResponse;
+import com.safely.domain.expense.dto.ExpenseSearchCondition;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.domain.expense.dto.ExpenseSummary;
 import com.safely.domain.expense.entity.Expense;
 import com.safely.domain.expense.entity.ExpenseParticipant;
 import com.safely.domain.expense.repository.ExpenseRepository;
+import com.safely.domain.expense.split.ExpenseSplitEngine;
+import com.safely.domain.expense.split.LargestRemainderAllocator;
 import com.safely.domain.group.entity.Group;
 import com.safely.domain.group.repository.GroupRepository;
+import com.safely.domain.group.service.GroupRosterCache;
 import com.safely.domain.member.entity.Member;
 import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.service.BalanceLedgerService;
+import com.safely.domain.settlement.service.SettlementPreviewCache;
 import com.safely.global.exception.BusinessException;
 import com.safely.global.exception.ErrorCode;
 import com.safely.global.exception.common.EntityNotFoundException;
+import com.safely.global.exception.expense.ExpenseEditConflictException;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import com.safely.global.exception.group.NotGroupMemberException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ExpenseService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
     private final ExpenseRepository expenseRepository;
     private final GroupRepository groupRepository;
     private final MemberRepository memberRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SettlementPreviewCache settlementPreviewCache;
+    private final ExpenseWriteCoordinator expenseWriteCoordinator;
+    private final ExpenseSplitEngine expenseSplitEngine;
+    private final GroupRosterCache groupRosterCache;
+    private final ExpenseUpdateProperties expenseUpdateProperties;
 
     @Transactional
     public Long createExpense(Long groupId, ExpenseCreateRequest request) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(EntityNotFoundException::new);
-
-        Member payer = memberRepository.findById(request.payerId())
-                .orElseThrow(EntityNotFoundException::new);
+        // 그룹과 결제자는 멤버 목록 캐시로 확인했으므로 SELECT 없이 프록시로 참조만 함
+        validateMembers(groupId, List.of(request.payerId()));
+        Group group = groupRepository.getReferenceById(groupId);
+        Member payer = memberRepository.getReferenceById(request.payerId());
+        balanceLedgerService.ensureInitialized(groupId);
 
         Expense expense = Expense.builder()
                 .group(group)
@@ -46,30 +71,93 @@ public class ExpenseService {
                 .location(request.location())
                 .category(request.category())
                 .spentDate(request.spentDate())
+                .splitType(request.split() != null ? request.split().type() : SplitType.EQUAL)
                 .build();
 
         // 1/N 분배 로직 실행 및 참여자 저장
-        distributeAmountAndSaveParticipants(expense, request.amount(), request.participantMemberIds());
+        distributeAmountAndSaveParticipants(expense, groupId, request.amount(), request.participantMemberIds(), request.split());
 
-        expenseRepository.save(expense);
+        try {
+            expenseRepository.save(expense);
+            // 다른 서버에서 삭제된 그룹이 멤버 목록 캐시에 남아있으면 FK 제약 위반이 나므로, 커밋 전에 INSERT 해서 여기서 확인함
+            expenseRepository.flush();
+            balanceLedgerService.applyChange(groupId, Map.of(), BalanceLedgerService.contributionOf(expense));
+        } catch (DataIntegrityViolationException e) {
+            // 그룹이 실제로 사라진 경우만 GROUP_NOT_FOUND로 바꾸고, 다른 제약 위반은 그대로 던짐
+            if (groupRepository.existsGroupById(groupId)) {
+                throw e;
+            }
+            groupRosterCache.evict(groupId);
+            log.warn("[!] 지출 생성 실패: 이미 삭제된 그룹 (멤버 목록 캐시 삭제). GroupID={}", groupId);
+            throw new EntityNotFoundException(ErrorCode.GROUP_NOT_FOUND);
+        }
+        settlementPreviewCache.evictAfterCommit(groupId);
 
         log.info("[+] 지출 내역 생성: ExpenseID={}, GroupID={}, Amount={}", expense.getId(), groupId, request.amount());
         return expense.getId();
     }
 
     public List<ExpenseResponse> getExpenses(Long groupId) {
-        return expenseRepository. findAllByGroupId(groupId).stream()
+        return expenseRepository.findAllByGroupId(groupId).stream()
                 .map(ExpenseResponse::from)
                 .toList();
     }
 
-    @Transactional
-    @Retryable(
-            retryFor = ObjectOptimisticLockingFailureException.class,
-            maxAttempts = 3,
-            backoff = @Backoff(delay = 1000)
-    )
+    // 커서 기반 목록 조회. 한 건을 더 읽어서 다음 페이지 존재 여부를 판단함.
+    public ExpenseScrollResponse scrollExpenses(Long groupId, ExpenseSearchCondition condition, String cursor, int size) {
+        int pageSize = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+        ExpenseCursor after = (cursor == null || cursor.isBlank()) ? null : ExpenseCursor.decode(cursor);
+
+        List<ExpenseSummary> expenses = expenseRepository.scrollByGroupId(
+                groupId,
+                condition.category(),
+                condition.payerId(),
+                condition.from(),
+                condition.to(),
+                after != null ? after.spentDate() : null,
+                after != null ? after.createdAt() : null,
+                after != null ? after.expenseId() : null,
+                Limit.of(pageSize + 1));
+
+        boolean hasNext = expenses.size() > pageSize;
+        List<ExpenseSummary> page = hasNext ? expenses.subList(0, pageSize) : expenses;
+        String nextCursor = hasNext ? ExpenseCursor.from(page.get(page.size() - 1)).encode() : null;
+
+        return new ExpenseScrollResponse(page.stream().map(ExpenseResponse::from).toList(), nextCursor, hasNext);
+    }
+
+    // 같은 지출의 동시 수정은 ExpenseWriteCoordinator가 처리함 (같은 서버는 락으로 줄 세우고, 충돌 시 새 트랜잭션에서 재시도).
+    // 재시도마다 트랜잭션을 새로 열어야 하므로 여기서는 트랜잭션을 시작하지 않음
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void updateExpense(Long groupId, Long expenseId, ExpenseCreateRequest request) {
+        ExpenseSnapshot requested = ExpenseSnapshot.from(request);
+
+        // 병합 모드에서만 기준 상태를 읽음 (덮어쓰기 모드는 요청 값을 그대로 반영)
+        ExpenseSnapshot base = expenseUpdateProperties.getConflictMode() == ExpenseUpdateProperties.ConflictMode.MERGE
+                ? readMergeBase(expenseId)
+                : null;
+
+        expenseWriteCoordinator.execute(expenseId, () -> {
+            applyUpdate(groupId, expenseId, requested, request.split(), base);
+            return null;
+        });
+
+        log.info("[*] 지출 내역 수정 완료: ExpenseID={}, ModifierID={}", expenseId, request.payerId());
+    }
+
+    // 병합 기준은 락을 잡기 전에 읽음. 락 안에서 읽으면 앞서 줄 선 요청의 결과가 기준이 되어,
+    // 이 요청이 바꾸지 않은 필드까지 "바꾼 것"으로 보고 앞 요청의 수정을 되돌리게 됨
+    private ExpenseSnapshot readMergeBase(Long expenseId) {
+        return expenseWriteCoordinator.readBeforeLock(() -> expenseRepository.findById(expenseId)
+                        .map(ExpenseSnapshot::from))
+                .orElseThrow(() -> {
+                    log.warn("[!] 지출 수정 실패: 존재하지 않는 내역. ExpenseID={}", expenseId);
+                    return new EntityNotFoundException();
+                });
+    }
+
+    private void applyUpdate(Long groupId, Long expenseId, ExpenseSnapshot requested, ExpenseSplitRequest split,
+                             ExpenseSnapshot base) {
         Expense expense = expenseRepository.findById(expenseId)
                 .orElseThrow(() -> {
                     log.warn("[!] 지출 수정 실패: 존재하지 않는 내역. ExpenseID={}", expenseId);
@@ -77,18 +165,50 @@ public class ExpenseService {
                 });
 
         validateGroupAccess(expense, groupId);
+        balanceLedgerService.ensureInitialized(groupId);
+        Map<Long, Long> before = BalanceLedgerService.contributionOf(expense);
 
-        Member newPayer = memberRepository.findById(request.payerId())
-                .orElseThrow(EntityNotFoundException::new);
+        // 병합 모드: 락을 잡기 전에 읽은 상태를 기준으로, 그 사이 다른 요청이 바꾼 필드는 유지하고 이 요청이 바꾼 필드만 반영함
+        // 덮어쓰기 모드(base == null): 요청 값을 그대로 반영함
+        ExpenseSnapshot current = ExpenseSnapshot.from(expense);
+        ExpenseSnapshot merged = base == null ? requested : ExpenseSnapshot.merge(base, current, requested);
+        if (base != null && !base.equals(current)) {
+            log.info("[*] 지출 수정 중 다른 요청의 변경과 병합: ExpenseID={}", expenseId);
+        }
+
+        Member newPayer = expense.getPayer();
+        if (!merged.payerId().equals(current.payerId())) {
+            validateMembers(groupId, List.of(merged.payerId()));
+            newPayer = memberRepository.getReferenceById(merged.payerId());
+        }
+
+        // 가중치/금액 지정 값은 저장하지 않으므로, 분배 정보 없이 금액이나 참여자를 바꾸면 균등 분배로 바뀌어버림
+        boolean resplit = !merged.amount().equals(current.amount()) || !merged.participantIds().equals(current.participantIds());
+        if (split == null && resplit && expense.getSplitType() != SplitType.EQUAL) {
+            log.warn("[!] 지출 수정 실패: 분배 정보 없이 금액/참여자 변경. ExpenseID={}, SplitType={}", expenseId, expense.getSplitType());
+            throw new InvalidExpenseSplitException();
+        }
 
         // 기본 정보 업데이트
-        expense.update(newPayer, request.amount(), request.location(), request.category(), request.spentDate());
+        expense.update(newPayer, merged.amount(), merged.location(), merged.category(), merged.spentDate());
 
-        // 기존 참여자 목록 삭제 후 재생성
-        expense.clearParticipants();
-        distributeAmountAndSaveParticipants(expense, request.amount(), request.participantMemberIds());
+        // 가중치/금액 지정 분배는 요청한 참여자와 금액을 기준으로 한 값이므로, 다른 요청이 그 값을 바꿨으면 병합하지 않음
+        if (split != null && split.type() != SplitType.EQUAL
+                && (!merged.amount().equals(requested.amount()) || !merged.participantIds().equals(requested.participantIds()))) {
+            throw new ExpenseEditConflictException();
+        }
 
-        log.info("[*] 지출 내역 수정 완료: ExpenseID={}, ModifierID={}", expenseId, request.payerId());
+        // 분배 방식을 지정하지 않았고 금액과 참여자가 그대로면 분담 금액도 그대로이므로 참여자는 건드리지 않음.
+        // 다시 계산할 때도 전체 삭제 후 재생성하지 않고, 달라진 참여자 행만 INSERT/UPDATE/DELETE 함
+        if (split != null || resplit) {
+            List<Member> members = findParticipants(groupId, merged.participantIds());
+            expense.syncParticipants(members, split(merged.amount(), members, split));
+            if (split != null) {
+                expense.changeSplitType(split.type());
+            }
+        }
+        balanceLedgerService.applyChange(groupId, before, BalanceLedgerService.contributionOf(expense));
+        settlementPreviewCache.evictAfterCommit(groupId);
     }
 
     @Transactional
@@ -97,41 +217,77 @@ public class ExpenseService {
                 .orElseThrow(EntityNotFoundException::new);
 
         validateGroupAccess(expense, groupId);
+        balanceLedgerService.ensureInitialized(groupId);
+        balanceLedgerService.applyChange(groupId, BalanceLedgerService.contributionOf(expense), Map.of());
+        settlementPreviewCache.evictAfterCommit(groupId);
 
         expenseRepository.delete(expense);
         log.info("[-] 지출 내역 삭제 완료: ExpenseID={}, GroupID={}", expenseId, groupId);
     }
 
-    // 금액 분배 및 참여자 생성 로직 (1/N + 나머지 처리)
-    private void distributeAmountAndSaveParticipants(Expense expense, Long totalAmount, List<Long> participantIds) {
+    // 금액 분배 및 참여자 생성 로직 (분배 방식은 ExpenseSplitEngine 참고)
+    private void distributeAmountAndSaveParticipants(Expense expense, Long groupId, Long totalAmount,
+                                                     List<Long> participantIds, ExpenseSplitRequest split) {
+        List<Member> members = findParticipants(groupId, participantIds);
+        addParticipants(expense, members, split(totalAmount, members, split));
+    }
+
+    private long[] split(long totalAmount, List<Member> members, ExpenseSplitRequest split) {
+        return expenseSplitEngine.split(totalAmount, members.stream().mapToLong(Member::getId).toArray(), split);
+    }
+
+    // 참여자를 ID 순으로 정렬해서 반환함 (요청 순서와 관계없이 분배 결과가 항상 같도록).
+    // 그룹 멤버인지는 캐시로 확인하고, 회원은 SELECT 없이 프록시로 참조만 함
+    private List<Member> findParticipants(Long groupId, List<Long> participantIds) {
         if (participantIds == null || participantIds.isEmpty()) {
             log.warn("[!] 지출 생성 실패: 참여자 목록 비어있음.");
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        List<Member> members = memberRepository.findAllById(participantIds);
-        if (members.size() != participantIds.size()) {
-            log.warn("[!] 지출 생성 실패: 요청한 참여자와 DB 조회 결과 불일치. ReqSize={}, DBSize={}",
-                    participantIds.size(), members.size());
-            throw new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND);
+        List<Long> sortedIds = participantIds.stream()
+                .filter(Objects::nonNull)
+                .sorted()
+                .distinct()
+                .toList();
+        if (sortedIds.size() != participantIds.size()) {
+            log.warn("[!] 지출 생성 실패: 참여자 목록에 중복 또는 빈 값. ReqSize={}, ValidSize={}",
+                    participantIds.size(), sortedIds.size());
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
 
-        int count = members.size();
-        long splitAmount = totalAmount / count; // 몫
-        long remainder = totalAmount % count;   // 나머지
+        validateMembers(groupId, sortedIds);
+        List<Member> members = new ArrayList<>(sortedIds.size());
+        for (Long memberId : sortedIds) {
+            members.add(memberRepository.getReferenceById(memberId));
+        }
+        return members;
+    }
 
-        for (int i = 0; i < count; i++) {
-            long individualAmount = splitAmount;
+    // 다른 그룹 회원이 결제자나 참여자로 들어가지 않도록 그룹 멤버 목록 캐시로 확인함
+    private void validateMembers(Long groupId, List<Long> memberIds) {
+        if (groupRosterCache.containsAll(groupId, memberIds)) {
+            return;
+        }
+        if (groupRosterCache.getMemberIds(groupId).isEmpty()) {
+            log.warn("[!] 지출 저장 실패: 존재하지 않는 그룹. GroupID={}", groupId);
+            throw new EntityNotFoundException(ErrorCode.GROUP_NOT_FOUND);
+        }
+        log.warn("[!] 지출 저장 실패: 그룹 멤버가 아닌 회원 포함. GroupID={}, MemberIDs={}", groupId, memberIds);
+        throw new NotGroupMemberException();
+    }
 
-            // 나머지는 첫 번째 사람에게 부과 (예: 10,000원 / 3명 -> 3,334 / 3,333 / 3,333)
-            if (i == 0) {
-                individualAmount += remainder;
-            }
+    // 1/N 분배 결과를 참여자로 추가
+    static void addParticipants(Expense expense, long totalAmount, List<Member> members) {
+        addParticipants(expense, members, LargestRemainderAllocator.equal(totalAmount, members.size()));
+    }
 
+    // members[i]가 amounts[i]를 분담하는 참여자로 추가
+    static void addParticipants(Expense expense, List<Member> members, long[] amounts) {
+        for (int i = 0; i < members.size(); i++) {
             ExpenseParticipant participant = ExpenseParticipant.builder()
                     .expense(expense)
                     .member(members.get(i))
-                    .amount(individualAmount)
+                    .amount(amounts[i])
                     .build();
 
             expense.addParticipant(participant);
@@ -0,0 +1,64 @@
+package com.safely.domain.expense.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.entity.Expense;
+import com.safely.global.exception.expense.ExpenseEditConflictException;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+// 지출 수정 시 필드 단위 병합에 쓰는 값. 참여자는 순서와 관계없이 비교하도록 정렬해서 보관함
+record ExpenseSnapshot(Long payerId, Long amount, String location, ExpenseCategory category,
+                       LocalDate spentDate, List<Long> participantIds) {
+
+    static ExpenseSnapshot from(Expense expense) {
+        return new ExpenseSnapshot(
+                expense.getPayer().getId(),
+                expense.getAmount(),
+                expense.getLocation(),
+                expense.getCategory(),
+                expense.getSpentDate(),
+                sorted(expense.getParticipants().stream().map(participant -> participant.getMember().getId()).toList()));
+    }
+
+    static ExpenseSnapshot from(ExpenseCreateRequest request) {
+        return new ExpenseSnapshot(
+                request.payerId(),
+                request.amount(),
+                request.location(),
+                request.category(),
+                request.spentDate(),
+                request.participantMemberIds() == null ? List.of() : sorted(request.participantMemberIds()));
+    }
+
+    // base: 요청이 처음 읽은 상태, current: 지금 DB 상태, requested: 요청 값.
+    // 요청이 바꾸지 않은 필드는 지금 값을 유지하고, 요청이 바꾼 필드는 그 사이 다른 요청이 건드리지 않았을 때만 반영함.
+    // 금액과 참여자는 따로 병합해도 분배 금액은 병합된 값으로 다시 계산되므로 일관성이 유지됨
+    static ExpenseSnapshot merge(ExpenseSnapshot base, ExpenseSnapshot current, ExpenseSnapshot requested) {
+        return new ExpenseSnapshot(
+                pick(base.payerId, current.payerId, requested.payerId),
+                pick(base.amount, current.amount, requested.amount),
+                pick(base.location, current.location, requested.location),
+                pick(base.category, current.category, requested.category),
+                pick(base.spentDate, current.spentDate, requested.spentDate),
+                pick(base.participantIds, current.participantIds, requested.participantIds));
+    }
+
+    private static <T> T pick(T base, T current, T requested) {
+        if (Objects.equals(requested, base)) {
+            return current;
+        }
+        if (Objects.equals(current, base) || Objects.equals(current, requested)) {
+            return requested;
+        }
+        // 같은 필드를 서로 다른 값으로 수정한 경우
+        throw new ExpenseEditConflictException();
+    }
+
+    private static List<Long> sorted(List<Long> ids) {
+        return ids.stream().sorted(Comparator.nullsLast(Comparator.naturalOrder())).toList();
+    }
+}
@@ -0,0 +1,31 @@
+package com.safely.domain.expense.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "expense.update")
+public class ExpenseUpdateProperties {
+    // OVERWRITE: 요청 값으로 모두 덮어씀 (마지막 요청이 이김, 기존 동작)
+    // MERGE: 요청이 처음 읽은 상태를 기준으로 필드 단위 병합, 같은 필드를 서로 다르게 수정하면 409(E002)로 거절
+    public enum ConflictMode { OVERWRITE, MERGE }
+
+    private ConflictMode conflictMode = ConflictMode.OVERWRITE;
+
+    // 낙관적 락 충돌 시 최대 시도 횟수 (첫 시도 포함)
+    private int maxAttempts = 5;
+
+    // 재시도 대기 시간(ms). 시도마다 두 배씩 늘어나고, 동시에 다시 부딪히지 않도록 무작위 지터가 더해짐
+    private long initialBackoffMs = 10;
+    private long maxBackoffMs = 200;
+
+    // 같은 서버 안에서 같은 지출을 수정하는 요청을 줄 세우는 락 개수 (지출 ID로 나눠 씀)
+    private int lockStripes = 64;
+
+    // 락을 이 시간(ms) 안에 얻지 못하면 락 없이 진행함 (낙관적 락이 최종적으로 충돌을 막음)
+    private long lockTimeoutMs = 3000;
+}
@@ -0,0 +1,129 @@
+package com.safely.domain.expense.service;
+
+import com.safely.global.exception.expense.ExpenseEditConflictException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.support.MetricsRetryListener;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 같은 지출을 동시에 수정하는 요청 처리.
+// 1. 같은 서버의 요청은 지출 ID별 락으로 DB에 닿기 전에 줄 세움 (커넥션을 잡고 기다리지 않음)
+// 2. 다른 서버와 부딪혀 낙관적 락 충돌이 나면, 지터를 더한 지수 백오프(ms 단위) 후 새 트랜잭션에서 다시 시도함
+//    (재시도 때 어떤 필드를 반영할지는 호출하는 쪽에서 정함. expense.update.conflict-mode, ExpenseSnapshot.merge)
+@Slf4j
+@Component
+public class ExpenseWriteCoordinator {
+    private final ReentrantLock[] stripes;
+    private final long lockTimeoutMs;
+    private final RetryTemplate retryTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public ExpenseWriteCoordinator(ExpenseUpdateProperties properties, PlatformTransactionManager transactionManager,
+                                   MetricsRetryListener retryMetricsListener, MeterRegistry meterRegistry) {
+        this.stripes = new ReentrantLock[Math.max(1, properties.getLockStripes())];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.lockTimeoutMs = properties.getLockTimeoutMs();
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(properties.getMaxAttempts())
+                .exponentialBackoff(properties.getInitialBackoffMs(), 2.0, properties.getMaxBackoffMs(), true)
+                .retryOn(ObjectOptimisticLockingFailureException.class)
+                .withListener(retryMetricsListener)
+                .build();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 락을 잡기 전에 필요한 조회 (병합 기준 상태 등). 짧은 읽기 전용 트랜잭션으로 끝내서 락을 기다리는 동안 커넥션을 잡고 있지 않음
+    public <T> T readBeforeLock(Supplier<T> read) {
+        return readOnlyTransactionTemplate.execute(status -> read.get());
+    }
+
+    public <T> T execute(Long expenseId, Supplier<T> work) {
+        ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(expenseId), stripes.length)];
+        boolean locked = acquire(lock, expenseId);
+        try {
+            return executeWithRetry(work);
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private <T> T executeWithRetry(Supplier<T> work) {
+        // 이미 바깥 트랜잭션이 있으면 충돌 시 그 트랜잭션 전체가 롤백되므로 재시도하지 않고 그대로 참여함
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return work.get();
+        }
+
+        int[] attempts = new int[1];
+        try {
+            T result = retryTemplate.execute(new RetryCallback<T, RuntimeException>() {
+                @Override
+                public T doWithRetry(RetryContext context) {
+                    attempts[0] = context.getRetryCount() + 1;
+                    return transactionTemplate.execute(status -> work.get());
+                }
+
+                @Override
+                public String getLabel() {
+                    return "expense.update";
+                }
+            });
+            if (attempts[0] > 1) {
+                conflict("resolved");
+            }
+            return result;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            log.warn("[!] 지출 수정 충돌: 재시도 횟수 초과. Attempts={}", attempts[0]);
+            conflict("exhausted");
+            throw e;
+        } catch (ExpenseEditConflictException e) {
+            conflict("rejected");
+            throw e;
+        } finally {
+            meterRegistry.summary("expense.update.attempts").record(attempts[0]);
+        }
+    }
+
+    private boolean acquire(ReentrantLock lock, Long expenseId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            if (lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("[!] 지출 수정 락 대기 시간 초과, 락 없이 진행: ExpenseID={}", expenseId);
+            meterRegistry.counter("expense.update.lock.timeouts").increment();
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[!] 지출 수정 락 대기 중 인터럽트, 락 없이 진행: ExpenseID={}", expenseId);
+            return false;
+        } finally {
+            sample.stop(meterRegistry.timer("expense.update.lock.wait"));
+        }
+    }
+
+    // resolved: 재시도로 성공, rejected: 같은 필드를 서로 다르게 수정해서 거절, exhausted: 재시도 횟수 초과
+    private void conflict(String outcome) {
+        meterRegistry.counter("expense.update.conflicts", "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,19 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EqualSplitStrategy implements SplitStrategy {
+
+    @Override
+    public SplitType type() {
+        return SplitType.EQUAL;
+    }
+
+    @Override
+    public long[] split(long total, long[] memberIds, ExpenseSplitRequest request) {
+        return LargestRemainderAllocator.equal(total, memberIds.length);
+    }
+}
@@ -0,0 +1,25 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import org.springframework.stereotype.Component;
+
+// 참여자별 금액 직접 지정. 합계가 지출 금액과 정확히 같아야 함
+@Component
+public class ExactSplitStrategy implements SplitStrategy {
+
+    @Override
+    public SplitType type() {
+        return SplitType.EXACT;
+    }
+
+    @Override
+    public long[] split(long total, long[] memberIds, ExpenseSplitRequest request) {
+        long[] amounts = SplitInputs.valuesByMember(memberIds, request.shares());
+        if (SplitInputs.sum(amounts) != total) {
+            throw new InvalidExpenseSplitException();
+        }
+        return amounts;
+    }
+}
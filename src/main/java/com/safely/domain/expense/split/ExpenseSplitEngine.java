@@ -0,0 +1,46 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+// 분배 방식(SplitType)에 맞는 SplitStrategy를 골라 참여자별 분담 금액을 계산함.
+// 참여자 순서는 호출하는 쪽에서 ID 오름차순으로 맞춰서 넘기므로, DB 조회 순서와 관계없이 같은 요청이면 결과도 같음
+@Slf4j
+@Component
+public class ExpenseSplitEngine {
+    private final Map<SplitType, SplitStrategy> strategies = new EnumMap<>(SplitType.class);
+
+    public ExpenseSplitEngine(List<SplitStrategy> strategies) {
+        strategies.forEach(strategy -> this.strategies.put(strategy.type(), strategy));
+    }
+
+    // request가 null이면 균등 분배
+    public long[] split(long total, long[] memberIds, ExpenseSplitRequest request) {
+        SplitType type = request == null ? SplitType.EQUAL : request.type();
+        SplitStrategy strategy = strategies.get(type);
+        if (strategy == null || memberIds.length == 0) {
+            throw new InvalidExpenseSplitException();
+        }
+
+        long[] amounts;
+        try {
+            amounts = strategy.split(total, memberIds, request);
+        } catch (InvalidExpenseSplitException | IllegalArgumentException | ArithmeticException e) {
+            log.warn("[!] 지출 분배 실패: 분배 정보 오류. Type={}, Total={}, Participants={}", type, total, memberIds.length);
+            throw e instanceof InvalidExpenseSplitException invalid ? invalid : new InvalidExpenseSplitException();
+        }
+
+        // 어떤 방식이든 합계는 지출 금액과 정확히 같아야 함
+        if (amounts.length != memberIds.length || SplitInputs.sum(amounts) != total) {
+            throw new IllegalStateException("분배 합계 불일치: Type=" + type);
+        }
+        return amounts;
+    }
+}
@@ -0,0 +1,70 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 영수증 항목별 분배. 항목 금액은 그 항목을 함께한 참여자끼리 균등하게 나누고,
+// 지출 금액에서 항목 합계를 뺀 나머지(봉사료, 세금 등)는 각자 항목 금액 비율대로 나눔
+@Component
+public class ItemizedSplitStrategy implements SplitStrategy {
+
+    @Override
+    public SplitType type() {
+        return SplitType.ITEMIZED;
+    }
+
+    @Override
+    public long[] split(long total, long[] memberIds, ExpenseSplitRequest request) {
+        List<ExpenseSplitRequest.Item> items = request.items();
+        if (items == null || items.isEmpty()) {
+            throw new InvalidExpenseSplitException();
+        }
+
+        long[] subtotals = new long[memberIds.length];
+        long itemsTotal = 0;
+        for (ExpenseSplitRequest.Item item : items) {
+            if (item.amount() == null || item.amount() < 0 || item.memberIds() == null || item.memberIds().isEmpty()) {
+                throw new InvalidExpenseSplitException();
+            }
+            int[] indexes = indexesOf(memberIds, item.memberIds());
+            long[] shares = LargestRemainderAllocator.equal(item.amount(), indexes.length);
+            for (int i = 0; i < indexes.length; i++) {
+                subtotals[indexes[i]] += shares[i];
+            }
+            itemsTotal = Math.addExact(itemsTotal, item.amount());
+        }
+
+        if (itemsTotal > total) {
+            throw new InvalidExpenseSplitException();
+        }
+        long rest = total - itemsTotal;
+        if (rest == 0) {
+            return subtotals;
+        }
+        long[] extras = LargestRemainderAllocator.allocate(rest, subtotals);
+        for (int i = 0; i < subtotals.length; i++) {
+            subtotals[i] += extras[i];
+        }
+        return subtotals;
+    }
+
+    // 항목 참여자를 정렬된 인덱스로 바꿈 (같은 항목에 같은 사람이 두 번 있으면 거절)
+    private int[] indexesOf(long[] memberIds, List<Long> itemMemberIds) {
+        int[] indexes = new int[itemMemberIds.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = SplitInputs.indexOf(memberIds, itemMemberIds.get(i));
+        }
+        Arrays.sort(indexes);
+        for (int i = 1; i < indexes.length; i++) {
+            if (indexes[i] == indexes[i - 1]) {
+                throw new InvalidExpenseSplitException();
+            }
+        }
+        return indexes;
+    }
+}
@@ -0,0 +1,142 @@
+package com.safely.domain.expense.split;
+
+import java.math.BigInteger;
+
+// 정수 금액을 가중치 비율대로 나누되 합계가 항상 총액과 정확히 같도록 하는 최대 잉여(largest remainder) 분배.
+// 각자 몫의 내림값을 먼저 주고, 남은 1원 단위들을 버려진 소수 부분이 큰 순서대로 한 명에 1원씩 줌.
+// 소수 부분이 같으면 앞쪽 인덱스가 먼저 받으므로 입력 순서가 같으면 결과도 항상 같음.
+// 참여자가 수천 명이어도 박싱 없이 long/int 배열만 사용하고, 나머지를 줄 사람을 고르는 데 최악 O(n log n).
+public final class LargestRemainderAllocator {
+
+    private LargestRemainderAllocator() {
+    }
+
+    // 1/N 분배 (모든 가중치가 1). 나머지는 앞에서부터 1원씩 (예: 10원 / 4명 -> 3, 3, 2, 2)
+    public static long[] equal(long total, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("분배 대상이 없습니다.");
+        }
+        if (total < 0) {
+            return negate(equal(Math.negateExact(total), count));
+        }
+
+        long quotient = total / count;
+        long remainder = total % count;
+        long[] amounts = new long[count];
+        for (int i = 0; i < count; i++) {
+            amounts[i] = i < remainder ? quotient + 1 : quotient;
+        }
+        return amounts;
+    }
+
+    // weights[i] 비율대로 total을 나눔. 가중치는 0 이상이고 합계는 0보다 커야 함
+    public static long[] allocate(long total, long[] weights) {
+        int count = weights.length;
+        if (count == 0) {
+            throw new IllegalArgumentException("분배 대상이 없습니다.");
+        }
+        long weightSum = 0;
+        for (long weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("가중치는 0 이상이어야 합니다.");
+            }
+            weightSum = Math.addExact(weightSum, weight);
+        }
+        if (weightSum == 0) {
+            throw new IllegalArgumentException("가중치 합계가 0입니다.");
+        }
+        if (total < 0) {
+            return negate(allocate(Math.negateExact(total), weights));
+        }
+
+        // total * w / sum = (total / sum) * w + (total % sum) * w / sum 으로 나눠서 곱셈 오버플로를 줄임
+        long quotient = total / weightSum;
+        long rest = total % weightSum;
+        long[] amounts = new long[count];
+        long[] fractions = new long[count]; // 버려진 소수 부분 (분모 weightSum 기준 분자)
+        long allocated = 0;
+        for (int i = 0; i < count; i++) {
+            long weight = weights[i];
+            long high = Math.multiplyHigh(rest, weight);
+            long product = rest * weight;
+            long floor;
+            if (high == 0 && product >= 0) {
+                floor = product / weightSum;
+                fractions[i] = product % weightSum;
+            } else {
+                // rest * w가 long 범위를 넘는 드문 경우만 BigInteger로 계산
+                BigInteger[] division = BigInteger.valueOf(rest).multiply(BigInteger.valueOf(weight))
+                        .divideAndRemainder(BigInteger.valueOf(weightSum));
+                floor = division[0].longValueExact();
+                fractions[i] = division[1].longValueExact();
+            }
+            amounts[i] = quotient * weight + floor;
+            allocated += amounts[i];
+        }
+
+        // 내림으로 버려진 금액은 항상 참여자 수보다 작으므로 한 사람에게 최대 1원씩만 더 감
+        int leftover = (int) (total - allocated);
+        if (leftover > 0) {
+            for (int index : firstByFractionDesc(fractions, leftover)) {
+                amounts[index]++;
+            }
+        }
+        return amounts;
+    }
+
+    // 소수 부분 내림차순(같으면 인덱스 오름차순)으로 앞에서 k개의 인덱스.
+    // 전체를 정렬하지 않고 힙을 만든 뒤(O(n)) k번만 꺼냄(O(k log n)). 박싱 없이 int 배열만 사용
+    private static int[] firstByFractionDesc(long[] fractions, int k) {
+        int size = fractions.length;
+        int[] heap = new int[size];
+        for (int i = 0; i < size; i++) {
+            heap[i] = i;
+        }
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(heap, fractions, i, size);
+        }
+
+        int[] first = new int[k];
+        for (int n = 0; n < k; n++) {
+            first[n] = heap[0];
+            heap[0] = heap[--size];
+            siftDown(heap, fractions, 0, size);
+        }
+        return first;
+    }
+
+    // 힙의 루트에 가장 먼저 받을 인덱스가 오도록 유지함
+    private static void siftDown(int[] heap, long[] fractions, int root, int size) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= size) {
+                return;
+            }
+            if (child + 1 < size && comesFirst(heap[child + 1], heap[child], fractions)) {
+                child++;
+            }
+            if (!comesFirst(heap[child], heap[root], fractions)) {
+                return;
+            }
+            swap(heap, root, child);
+            root = child;
+        }
+    }
+
+    private static boolean comesFirst(int a, int b, long[] fractions) {
+        return fractions[a] > fractions[b] || (fractions[a] == fractions[b] && a < b);
+    }
+
+    private static void swap(int[] order, int i, int j) {
+        int temp = order[i];
+        order[i] = order[j];
+        order[j] = temp;
+    }
+
+    private static long[] negate(long[] amounts) {
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = -amounts[i];
+        }
+        return amounts;
+    }
+}
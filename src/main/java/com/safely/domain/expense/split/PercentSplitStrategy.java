@@ -0,0 +1,26 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import org.springframework.stereotype.Component;
+
+// 퍼센트 분배. 소수점 둘째 자리까지 쓸 수 있도록 0.01% 단위 정수로 받음 (33.33% -> 3333, 합계 10000)
+@Component
+public class PercentSplitStrategy implements SplitStrategy {
+    private static final long FULL = 10_000;
+
+    @Override
+    public SplitType type() {
+        return SplitType.PERCENT;
+    }
+
+    @Override
+    public long[] split(long total, long[] memberIds, ExpenseSplitRequest request) {
+        long[] basisPoints = SplitInputs.valuesByMember(memberIds, request.shares());
+        if (SplitInputs.sum(basisPoints) != FULL) {
+            throw new InvalidExpenseSplitException();
+        }
+        return LargestRemainderAllocator.allocate(total, basisPoints);
+    }
+}
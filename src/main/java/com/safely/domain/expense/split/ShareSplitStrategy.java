@@ -0,0 +1,20 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import org.springframework.stereotype.Component;
+
+// 가중치(몫) 비율 분배. 예: 2:1:1이면 절반, 4분의 1, 4분의 1
+@Component
+public class ShareSplitStrategy implements SplitStrategy {
+
+    @Override
+    public SplitType type() {
+        return SplitType.SHARES;
+    }
+
+    @Override
+    public long[] split(long total, long[] memberIds, ExpenseSplitRequest request) {
+        return LargestRemainderAllocator.allocate(total, SplitInputs.valuesByMember(memberIds, request.shares()));
+    }
+}
@@ -0,0 +1,48 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+
+import java.util.Arrays;
+import java.util.List;
+
+// 요청 값을 정렬된 참여자 순서의 배열로 옮기면서 검증함
+final class SplitInputs {
+
+    private SplitInputs() {
+    }
+
+    // 참여자마다 정확히 하나씩 있는 0 이상의 값
+    static long[] valuesByMember(long[] memberIds, List<ExpenseSplitRequest.Share> shares) {
+        if (shares == null || shares.size() != memberIds.length) {
+            throw new InvalidExpenseSplitException();
+        }
+        long[] values = new long[memberIds.length];
+        boolean[] seen = new boolean[memberIds.length];
+        for (ExpenseSplitRequest.Share share : shares) {
+            int index = indexOf(memberIds, share.memberId());
+            if (seen[index] || share.value() == null || share.value() < 0) {
+                throw new InvalidExpenseSplitException();
+            }
+            seen[index] = true;
+            values[index] = share.value();
+        }
+        return values;
+    }
+
+    static int indexOf(long[] memberIds, Long memberId) {
+        int index = memberId == null ? -1 : Arrays.binarySearch(memberIds, memberId);
+        if (index < 0) {
+            throw new InvalidExpenseSplitException();
+        }
+        return index;
+    }
+
+    static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum = Math.addExact(sum, value);
+        }
+        return sum;
+    }
+}
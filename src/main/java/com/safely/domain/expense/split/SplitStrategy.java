@@ -0,0 +1,13 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+
+// 분배 방식별 계산. 새 방식은 구현체를 빈으로 등록하면 ExpenseSplitEngine이 찾아서 사용함.
+// memberIds는 오름차순으로 정렬된 참여자 ID이고, 결과는 같은 순서의 분담 금액 (합계 = total)
+public interface SplitStrategy {
+
+    SplitType type();
+
+    long[] split(long total, long[] memberIds, ExpenseSplitRequest request);
+}
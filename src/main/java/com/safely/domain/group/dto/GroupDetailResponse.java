@@ -30,12 +30,13 @@ public record GroupDetailResponse(
         );
     }
 
+    // profileImage는 목록 화면에서 원본 대신 쓰는 썸네일 URL (썸네일이 없으면 원본)
     public record GroupMemberDto(Long memberId, String name, String profileImage, String role) {
         public static GroupMemberDto from(GroupMember gm) {
             return new GroupMemberDto(
                     gm.getMember().getId(),
                     gm.getMember().getName(),
-                    gm.getMember().getProfileImage(),
+                    gm.getMember().getProfileThumbnailOrImage(),
                     gm.getRole().name()
             );
         }
@@ -1,10 +1,17 @@
 package com.safely.domain.group.repository;
 
 import com.safely.domain.group.entity.Group;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
     Optional<Group> findByInviteCode(String inviteCode);
+
+    // 플러시가 실패한 영속성 컨텍스트에서도 쓸 수 있도록, 조회 전에 자동 플러시(INSERT 재시도)를 하지 않음
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    boolean existsGroupById(Long id);
 }
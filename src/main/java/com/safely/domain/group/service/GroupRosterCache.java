@@ -0,0 +1,71 @@
+package com.safely.domain.group.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.safely.domain.group.repository.GroupMemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 지출 생성/수정마다 결제자와 참여자가 그룹 멤버인지 DB에서 확인하지 않도록, 그룹별 멤버 ID 목록을 서버 메모리에 보관함.
+// 멤버는 가입으로만 늘어나므로, 다른 서버에서 방금 가입한 멤버가 목록에 없으면 한 번 DB에서 다시 읽어 확인함.
+// 그룹 생성/가입/삭제 시 evict() 해야 하며, 다른 서버에서 삭제된 그룹은 TTL이 지날 때까지 남아있을 수 있음.
+// (그 사이 지출 저장은 FK 제약 위반으로 실패하고, ExpenseService가 GROUP_NOT_FOUND로 바꾸면서 evict() 함)
+@Slf4j
+@Component
+public class GroupRosterCache {
+    private static final long MAX_SIZE = 10_000;
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final Cache<Long, Set<Long>> cache;
+
+    public GroupRosterCache(GroupMemberRepository groupMemberRepository) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(TTL)
+                .build();
+    }
+
+    // 그룹의 멤버 ID 목록. 그룹이 없으면 빈 목록 (그룹에는 항상 관리자가 있으므로 빈 목록은 캐시하지 않음)
+    public Set<Long> getMemberIds(Long groupId) {
+        Set<Long> memberIds = cache.get(groupId, this::load);
+        return memberIds != null ? memberIds : Set.of();
+    }
+
+    public boolean containsAll(Long groupId, Collection<Long> memberIds) {
+        if (getMemberIds(groupId).containsAll(memberIds)) {
+            return true;
+        }
+        cache.invalidate(groupId);
+        return getMemberIds(groupId).containsAll(memberIds);
+    }
+
+    // 커밋 전에 다른 요청이 이전 값을 다시 채울 수 있으므로, 즉시 한 번 + 커밋 후 한 번 비움
+    public void evict(Long groupId) {
+        cache.invalidate(groupId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(groupId);
+                }
+            });
+        }
+        log.debug("[-] 그룹 멤버 목록 캐시 삭제: GroupID={}", groupId);
+    }
+
+    private Set<Long> load(Long groupId) {
+        Set<Long> memberIds = groupMemberRepository.findAllByGroupIdWithMember(groupId).stream()
+                .map(gm -> gm.getMember().getId())
+                .collect(Collectors.toUnmodifiableSet());
+        return memberIds.isEmpty() ? null : memberIds;
+    }
+}
@@ -8,6 +8,8 @@ import com.safely.domain.group.repository.GroupMemberRepository;
 import com.safely.domain.group.repository.GroupRepository;
 import com.safely.domain.member.entity.Member;
 import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.service.BalanceLedgerService;
+import com.safely.domain.settlement.service.SettlementPreviewCache;
 import com.safely.global.exception.common.EntityNotFoundException;
 import com.safely.global.exception.group.AlreadyJoinedGroupException;
 import com.safely.global.exception.group.GroupPermissionDeniedException;
@@ -28,6 +30,9 @@ public class GroupService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final MemberRepository memberRepository;
+    private final BalanceLedgerService balanceLedgerService;
+    private final SettlementPreviewCache settlementPreviewCache;
+    private final GroupRosterCache groupRosterCache;
 
     @Transactional
     public Long createGroup(Long memberId, GroupCreateRequest request) {
@@ -84,7 +89,10 @@ public class GroupService {
         Group group = getGroup(groupId);
         validateManager(groupId, memberId);
 
+        balanceLedgerService.deleteAll(groupId); // 잔액 원장이 그룹을 참조하므로 먼저 삭제
         groupRepository.delete(group); // Cascade 설정으로 GroupMember도 삭제됨
+        settlementPreviewCache.evictAfterCommit(groupId);
+        groupRosterCache.evict(groupId);
         log.info("[-] 그룹 삭제 완료: GroupID={}, DeletedBy={}", groupId, memberId);
     }
 
@@ -112,6 +120,8 @@ public class GroupService {
                 .memberName(member.getName())
                 .build();
         groupMemberRepository.save(newMember);
+        settlementPreviewCache.evictAfterCommit(group.getId()); // 새 멤버가 0원으로 프리뷰에 포함되어야 함
+        groupRosterCache.evict(group.getId());
         log.info("[+] 그룹 가입 완료: MemberID={}, GroupID={}", memberId, group.getId());
     }
 
@@ -0,0 +1,8 @@
+package com.safely.domain.member;
+
+// 프로필 이미지 비동기 업로드 상태
+public enum ProfileImageStatus {
+    PENDING, // 요청은 저장됨, 백그라운드에서 업로드 중 (profileImage는 이전 이미지 유지)
+    READY,   // 업로드 완료, profileImage가 새 이미지로 교체됨
+    FAILED   // 재시도 후에도 업로드 실패 (profileImage는 이전 이미지 유지)
+}
@@ -3,6 +3,8 @@ package com.safely.domain.member.controller;
 import com.safely.domain.auth.entity.CustomUserDetails;
 import com.safely.domain.member.dto.*;
 import com.safely.domain.member.service.MemberService;
+import com.safely.global.s3.PresignedUploadResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,6 +33,23 @@ public class MemberController {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/me/profile-image/presigned")
+    public ResponseEntity<PresignedUploadResponse> createProfileImageUploadUrl(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Valid @RequestBody ProfileImageUploadRequest request
+    ) {
+        return ResponseEntity.ok(memberService.createProfileImageUploadUrl(user.getMember().getId(), request));
+    }
+
+    @PostMapping("/me/profile-image/complete")
+    public ResponseEntity<Void> completeProfileImageUpload(
+            @AuthenticationPrincipal CustomUserDetails user,
+            @Valid @RequestBody ProfileImageCompleteRequest request
+    ) {
+        memberService.completeProfileImageUpload(user.getMember().getId(), request);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/me")
     public ResponseEntity<Void> withdraw(@AuthenticationPrincipal CustomUserDetails user) {
         memberService.deleteMember(user.getMember().getId());
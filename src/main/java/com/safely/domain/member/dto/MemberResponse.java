@@ -1,9 +1,12 @@
 package com.safely.domain.member.dto;
 
+import com.safely.domain.member.ProfileImageStatus;
 import com.safely.domain.member.entity.Member;
 
-public record MemberResponse(Long id, String email, String name, String profileImage) {
+public record MemberResponse(Long id, String email, String name, String profileImage, String profileThumbnail,
+                             ProfileImageStatus profileImageStatus) {
     public static MemberResponse from(Member member) {
-        return new MemberResponse(member.getId(), member.getEmail(), member.getName(), member.getProfileImage());
+        return new MemberResponse(member.getId(), member.getEmail(), member.getName(), member.getProfileImage(),
+                member.getProfileThumbnailOrImage(), member.getProfileImageStatus());
     }
 }
\ No newline at end of file
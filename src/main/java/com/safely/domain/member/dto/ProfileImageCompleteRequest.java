@@ -0,0 +1,8 @@
+package com.safely.domain.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record ProfileImageCompleteRequest(
+        @NotBlank(message = "업로드한 파일의 키는 필수입니다.")
+        String key
+) {}
@@ -0,0 +1,15 @@
+package com.safely.domain.member.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+
+public record ProfileImageUploadRequest(
+        @NotBlank(message = "파일 이름은 필수입니다.")
+        String filename,
+
+        @NotBlank(message = "Content-Type은 필수입니다.")
+        String contentType,
+
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        long size
+) {}
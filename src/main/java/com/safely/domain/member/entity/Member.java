@@ -1,6 +1,7 @@
 package com.safely.domain.member.entity;
 
 import com.safely.domain.common.entity.BaseEntity;
+import com.safely.domain.member.ProfileImageStatus;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -33,6 +34,18 @@ public class Member extends BaseEntity {
     @Column(name = "profile_image")
     private String profileImage;
 
+    // 목록 화면용 작은 변환본 URL. 변환할 수 없는 형식이거나 도입 이전 이미지면 null
+    @Column(name = "profile_thumbnail")
+    private String profileThumbnail;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "profile_image_status", length = 20)
+    private ProfileImageStatus profileImageStatus;
+
+    // 업로드 중인 오브젝트 키. 업로드가 끝났을 때 이 값과 같아야만 profileImage를 교체함 (그 사이 새 요청이 오면 이전 업로드는 버려짐)
+    @Column(name = "pending_image_key")
+    private String pendingImageKey;
+
     @Column(nullable = false, length = 50)
     private String authority;
 
@@ -45,6 +58,43 @@ public class Member extends BaseEntity {
         }
     }
 
+    public void startProfileImageUpload(String key) {
+        this.pendingImageKey = key;
+        this.profileImageStatus = ProfileImageStatus.PENDING;
+    }
+
+    // 현재 대기 중인 업로드가 맞으면 이미지를 교체하고 true 반환
+    public boolean completeProfileImageUpload(String key, String imageUrl, String thumbnailUrl) {
+        if (!key.equals(pendingImageKey)) {
+            return false;
+        }
+        this.profileImage = imageUrl;
+        this.profileThumbnail = thumbnailUrl;
+        this.pendingImageKey = null;
+        this.profileImageStatus = ProfileImageStatus.READY;
+        return true;
+    }
+
+    public void failProfileImageUpload(String key) {
+        if (key.equals(pendingImageKey)) {
+            this.pendingImageKey = null;
+            this.profileImageStatus = ProfileImageStatus.FAILED;
+        }
+    }
+
+    // 클라이언트가 직접 업로드한 이미지를 바로 적용 (서버에서 바이트를 읽지 않으므로 썸네일은 없음)
+    public void attachProfileImage(String imageUrl) {
+        this.profileImage = imageUrl;
+        this.profileThumbnail = null;
+        this.pendingImageKey = null;
+        this.profileImageStatus = ProfileImageStatus.READY;
+    }
+
+    // 썸네일이 없으면 원본 URL
+    public String getProfileThumbnailOrImage() {
+        return profileThumbnail != null ? profileThumbnail : profileImage;
+    }
+
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
     }
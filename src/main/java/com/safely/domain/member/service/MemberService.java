@@ -1,5 +1,6 @@
 package com.safely.domain.member.service;
 
+import com.safely.domain.auth.service.PrincipalCache;
 import com.safely.domain.member.dto.*;
 import com.safely.domain.member.entity.Member;
 import com.safely.domain.member.repository.MemberRepository;
@@ -7,11 +8,13 @@ import com.safely.global.exception.BusinessException;
 import com.safely.global.exception.ErrorCode;
 import com.safely.global.exception.auth.PasswordMismatchException;
 import com.safely.global.exception.common.EntityNotFoundException;
+import com.safely.global.s3.PresignedUploadResponse;
 import com.safely.global.s3.S3Service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -21,8 +24,10 @@ import org.springframework.web.multipart.MultipartFile;
 @Transactional(readOnly = true)
 public class MemberService {
     private final MemberRepository memberRepository;
-    private final S3Service s3Service;
+    private final ProfileImageUploader profileImageUploader;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
+    private final S3Service s3Service;
 
     public MemberResponse getMyInfo(Long memberId) {
         Member member = findMemberById(memberId);
@@ -39,12 +44,9 @@ public class MemberService {
             isUpdated = true;
         }
 
+        // 업로드는 커밋 후 백그라운드에서 진행 (S3 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
         if (file != null && !file.isEmpty()) {
-            if (member.getProfileImage() != null) {
-                s3Service.deleteObject(member.getProfileImage());
-            }
-            String imageUrl = s3Service.upload(file, "profile");
-            member.updateProfile(null, imageUrl);
+            profileImageUploader.stage(member, file);
             isUpdated = true;
         }
 
@@ -63,19 +65,35 @@ public class MemberService {
         }
 
         if (isUpdated) {
+            principalCache.evict(memberId);
             log.info("[*] 회원 정보 수정 완료: MemberID={}", memberId);
         }
     }
 
+    public PresignedUploadResponse createProfileImageUploadUrl(Long memberId, ProfileImageUploadRequest request) {
+        return s3Service.createPresignedUpload(profileDir(memberId), request.filename(), request.contentType(), request.size());
+    }
+
+    // 업로드된 오브젝트 확인은 S3 왕복이 필요하므로 트랜잭션 없이 실행하고, 회원 변경만 짧게 커밋함
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void completeProfileImageUpload(Long memberId, ProfileImageCompleteRequest request) {
+        // 다른 회원 경로의 오브젝트를 자기 프로필로 가져가지 못하도록 키 경로 확인
+        String key = request.key();
+        if (!key.startsWith(profileDir(memberId) + "/") || key.contains("..")) {
+            log.warn("[!] 프로필 이미지 완료 거부: 본인 경로가 아님. MemberID={}, Key={}", memberId, key);
+            throw new BusinessException(ErrorCode.HANDLE_ACCESS_DENIED);
+        }
+        profileImageUploader.attach(memberId, key);
+    }
+
     @Transactional
     public void deleteMember(Long memberId) {
         Member member = findMemberById(memberId);
 
-        if (member.getProfileImage() != null) {
-            s3Service.deleteObject(member.getProfileImage());
-        }
+        profileImageUploader.deleteAfterCommit(member.getProfileImage());
 
         memberRepository.delete(member);
+        principalCache.evict(memberId);
         log.info("[-] 회원 탈퇴 및 삭제 완료: MemberID={}", memberId);
     }
 
@@ -84,6 +102,10 @@ public class MemberService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND));
     }
 
+    private String profileDir(Long memberId) {
+        return "profile/" + memberId;
+    }
+
     private boolean hasText(String text) {
         return text != null && !text.isBlank();
     }
@@ -0,0 +1,18 @@
+package com.safely.domain.member.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "storage.profile-upload")
+public class ProfileImageUploadProperties {
+    // 업로드와 썸네일 변환을 동시에 처리하는 스레드 수. 변환이 CPU를 쓰므로 API 요청 몫을 남겨둠
+    private int threads = 2;
+
+    // 대기열이 가득 차면 업로드를 바로 실패(FAILED) 처리함
+    private int queueCapacity = 200;
+}
@@ -0,0 +1,244 @@
+package com.safely.domain.member.service;
+
+import com.safely.domain.auth.service.PrincipalCache;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.global.exception.ErrorCode;
+import com.safely.global.exception.common.EntityNotFoundException;
+import com.safely.global.exception.upload.FileUploadException;
+import com.safely.global.s3.ImageProcessor;
+import com.safely.global.s3.ImageVariant;
+import com.safely.global.s3.S3Service;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 프로필 이미지 비동기 업로드.
+// 요청 스레드는 파일을 로컬 임시 디렉터리에 옮기고 회원을 PENDING 상태로만 바꿔서 DB 트랜잭션을 빨리 끝내고,
+// 실제 업로드와 이전 이미지 삭제는 커밋 후 전용 스레드에서 재시도와 함께 처리함.
+// 썸네일 변환도 이 스레드에서 하므로 변환 작업 수는 업로드 스레드 수로 제한됨.
+@Slf4j
+@Component
+public class ProfileImageUploader {
+    private static final String DIR_NAME = "profile";
+
+    private final S3Service s3Service;
+    private final ImageProcessor imageProcessor;
+    private final MemberRepository memberRepository;
+    private final PrincipalCache principalCache;
+    private final TransactionTemplate transactionTemplate;
+    private final RetryTemplate retryTemplate;
+    private final ThreadPoolExecutor executor;
+    private final Path stagingDir;
+
+    public ProfileImageUploader(S3Service s3Service, ImageProcessor imageProcessor,
+                                MemberRepository memberRepository, PrincipalCache principalCache,
+                                PlatformTransactionManager transactionManager,
+                                ProfileImageUploadProperties properties,
+                                @Value("${storage.staging-dir}") String stagingDir) throws IOException {
+        this.s3Service = s3Service;
+        this.imageProcessor = imageProcessor;
+        this.memberRepository = memberRepository;
+        this.principalCache = principalCache;
+
+        // 커밋 직후(afterCommit)에도 호출되므로 항상 새 트랜잭션에서 실행
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.retryTemplate = RetryTemplate.builder()
+                .maxAttempts(3)
+                .exponentialBackoff(500, 2.0, 5000)
+                .retryOn(List.of(IOException.class, RuntimeException.class))
+                .build();
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                properties.getThreads(), properties.getThreads(), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "profile-upload-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.stagingDir = Files.createDirectories(Path.of(stagingDir));
+    }
+
+    // 트랜잭션 안에서 호출. 커밋되면 업로드를 시작하고, 롤백되면 임시 파일만 지움
+    public void stage(Member member, MultipartFile file) {
+        String key = s3Service.createKey(file, DIR_NAME);
+        Path staged;
+        try {
+            staged = Files.createTempFile(stagingDir, "profile-", ".tmp");
+            file.transferTo(staged);
+        } catch (IOException e) {
+            log.error("[-] 프로필 이미지 임시 저장 실패: MemberID={}, Cause={}", member.getId(), e.getMessage());
+            throw new FileUploadException();
+        }
+
+        Long memberId = member.getId();
+        String oldImageUrl = member.getProfileImage();
+        member.startProfileImageUpload(key);
+        log.info("[*] 프로필 이미지 업로드 대기: MemberID={}, Key={}", memberId, key);
+
+        afterCommit(
+                () -> submit(memberId, key, () -> upload(memberId, key, staged, oldImageUrl), staged),
+                () -> deleteStaged(staged));
+    }
+
+    // 클라이언트가 서명된 URL로 직접 올린 이미지를 적용. 업로드 확인(S3 요청) 동안 DB 커넥션을 잡지 않도록
+    // 트랜잭션 밖에서 호출되며, 회원 정보 변경만 짧은 새 트랜잭션으로 처리하고 이전 이미지는 백그라운드에서 지움
+    public String attach(Long memberId, String key) {
+        String imageUrl = s3Service.verifyUploaded(key);
+
+        String oldImageUrl = transactionTemplate.execute(status -> {
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.MEMBER_NOT_FOUND));
+            String previous = member.getProfileImage();
+            member.attachProfileImage(imageUrl);
+            return previous;
+        });
+        principalCache.evict(memberId);
+        log.info("[+] 프로필 이미지 직접 업로드 완료: MemberID={}, Key={}", memberId, key);
+
+        if (oldImageUrl != null && !oldImageUrl.equals(imageUrl)) {
+            submit(null, null, () -> deleteWithRetry(oldImageUrl), null);
+        }
+        return imageUrl;
+    }
+
+    // 회원 탈퇴 등 DB 변경이 커밋된 뒤에 이미지를 지움
+    public void deleteAfterCommit(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+        afterCommit(() -> submit(null, null, () -> deleteWithRetry(imageUrl), null), () -> { });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void upload(Long memberId, String key, Path staged, String oldImageUrl) {
+        try {
+            // 해상도 제한을 넘으면 원본도 올리지 않고 실패 처리
+            List<ImageProcessor.Variant> variants = imageProcessor.createVariants(staged);
+
+            String imageUrl = retryTemplate.execute((RetryCallback<String, IOException>) context -> {
+                try (InputStream inputStream = Files.newInputStream(staged)) {
+                    return s3Service.store(key, inputStream);
+                }
+            });
+            String thumbnailUrl = null;
+            for (ImageProcessor.Variant variant : variants) {
+                String url = retryTemplate.execute(context ->
+                        s3Service.store(variant.type().keyFor(key), new ByteArrayInputStream(variant.data())));
+                if (variant.type() == ImageVariant.THUMBNAIL) {
+                    thumbnailUrl = url;
+                }
+            }
+
+            String finalThumbnailUrl = thumbnailUrl;
+            Boolean applied = transactionTemplate.execute(status -> memberRepository.findById(memberId)
+                    .map(member -> member.completeProfileImageUpload(key, imageUrl, finalThumbnailUrl))
+                    .orElse(false));
+
+            if (Boolean.TRUE.equals(applied)) {
+                principalCache.evict(memberId);
+                log.info("[+] 프로필 이미지 업로드 완료: MemberID={}, Key={}, Variants={}", memberId, key, variants.size());
+                deleteWithRetry(oldImageUrl);
+            } else {
+                // 업로드 중에 새 이미지가 요청되었거나 회원이 탈퇴한 경우
+                log.info("[*] 더 이상 필요 없는 프로필 이미지 삭제: MemberID={}, Key={}", memberId, key);
+                deleteWithRetry(imageUrl);
+            }
+        } catch (Exception e) {
+            log.error("[-] 프로필 이미지 업로드 실패: MemberID={}, Key={}, Cause={}", memberId, key, e.getMessage());
+            markFailed(memberId, key);
+        } finally {
+            deleteStaged(staged);
+        }
+    }
+
+    private void submit(Long memberId, String key, Runnable task, Path staged) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.error("[-] 업로드 작업 대기열 초과: MemberID={}, Key={}", memberId, key);
+            if (staged != null) {
+                markFailed(memberId, key);
+                deleteStaged(staged);
+            }
+        }
+    }
+
+    private void deleteWithRetry(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) {
+            return;
+        }
+        try {
+            retryTemplate.execute(context -> {
+                s3Service.delete(imageUrl);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.error("[-] 이미지 삭제 실패 (재시도 초과): URL={}, Cause={}", imageUrl, e.getMessage());
+        }
+    }
+
+    private void markFailed(Long memberId, String key) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> memberRepository.findById(memberId)
+                    .ifPresent(member -> member.failProfileImageUpload(key)));
+        } catch (RuntimeException e) {
+            log.error("[-] 프로필 이미지 실패 상태 저장 실패: MemberID={}, Cause={}", memberId, e.getMessage());
+        }
+    }
+
+    private void deleteStaged(Path staged) {
+        try {
+            Files.deleteIfExists(staged);
+        } catch (IOException e) {
+            log.warn("[!] 임시 파일 삭제 실패: Path={}", staged);
+        }
+    }
+
+    private void afterCommit(Runnable onCommit, Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+}
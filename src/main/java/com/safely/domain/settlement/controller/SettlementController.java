@@ -1,6 +1,7 @@
 package com.safely.domain.settlement.controller;
 
 import com.safely.domain.settlement.dto.SettlementResponse;
+import com.safely.domain.settlement.dto.SettlementTransferResponse;
 import com.safely.domain.settlement.service.SettlementService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -19,6 +20,11 @@ public class SettlementController {
         return ResponseEntity.ok(settlementService.getSettlementPreview(groupId));
     }
 
+    @GetMapping("/transfers")
+    public ResponseEntity<List<SettlementTransferResponse>> getTransfers(@PathVariable Long groupId) {
+        return ResponseEntity.ok(settlementService.getSettlementTransfers(groupId));
+    }
+
     @PostMapping("/complete")
     public ResponseEntity<Void> completeSettlement(@PathVariable Long groupId) {
         settlementService.completeSettlement(groupId);
@@ -0,0 +1,4 @@
+package com.safely.domain.settlement.dto;
+
+// 멤버별 금액 조회용 프로젝션 (엔티티를 만들지 않고 DB 값만 바로 읽음)
+public record MemberAmount(Long memberId, Long amount) {}
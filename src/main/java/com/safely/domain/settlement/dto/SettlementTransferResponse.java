@@ -0,0 +1,22 @@
+package com.safely.domain.settlement.dto;
+
+import com.safely.domain.member.entity.Member;
+
+// 송금 안내용 DTO (fromMember가 toMember에게 amount만큼 보내면 정산 완료)
+public record SettlementTransferResponse(
+        Long fromMemberId,
+        String fromMemberName,
+        Long toMemberId,
+        String toMemberName,
+        Long amount
+) {
+    public static SettlementTransferResponse of(Member from, Member to, long amount) {
+        return new SettlementTransferResponse(
+                from.getId(),
+                from.getName(),
+                to.getId(),
+                to.getName(),
+                amount
+        );
+    }
+}
@@ -0,0 +1,45 @@
+package com.safely.domain.settlement.entity;
+
+import com.safely.domain.group.entity.Group;
+import com.safely.domain.member.entity.Member;
+import com.safely.global.config.PooledTableId;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 그룹별 멤버 누적 잔액 원장. 지출이 생성/수정/삭제될 때마다 증감분(delta)만 반영함.
+@Entity
+@Getter
+@Table(
+        name = "group_balances",
+        uniqueConstraints = @UniqueConstraint(name = "uk_group_balances_group_member", columnNames = {"group_id", "member_id"})
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GroupBalance {
+    // 원장 초기화 시 멤버 수만큼의 INSERT를 배치로 묶기 위해 테이블 기반 ID 할당 사용 (Expense 참고)
+    @Id
+    @PooledTableId("group_balances")
+    @Column(name = "group_balance_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "group_id", nullable = false)
+    private Group group;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    // 누적 잔액 (양수: 받을 돈 / 음수: 보낼 돈)
+    @Column(nullable = false)
+    private Long balance;
+
+    @Builder
+    public GroupBalance(Group group, Member member, Long balance) {
+        this.group = group;
+        this.member = member;
+        this.balance = balance;
+    }
+}
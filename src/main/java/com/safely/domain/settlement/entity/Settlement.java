@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter
-@Table(name = "settlements")
+@Table(
+        name = "settlements",
+        uniqueConstraints = @UniqueConstraint(name = "uk_settlements_group_member", columnNames = {"group_id", "member_id"})
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Settlement extends BaseEntity {
     @Id
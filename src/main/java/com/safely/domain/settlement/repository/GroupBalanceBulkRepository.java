@@ -0,0 +1,124 @@
+package com.safely.domain.settlement.repository;
+
+import com.safely.domain.settlement.dto.MemberAmount;
+import com.safely.global.config.IdAllocationPool;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 지출 한 건의 참여자 수만큼 발생하는 원장 증감을 JDBC 배치 UPDATE 한 번으로 전송함.
+@Repository
+@RequiredArgsConstructor
+public class GroupBalanceBulkRepository {
+    private static final String SEQUENCE_NAME = "group_balances";
+
+    private static final String INSERT =
+            "INSERT INTO group_balances (group_balance_id, group_id, member_id, balance) VALUES (?, ?, ?, ?)";
+    // 같은 (group_id, member_id) 행이 이미 있으면 잔액에 더함 / 그대로 둠
+    private static final String MYSQL_INSERT_OR_ADD = INSERT + " ON DUPLICATE KEY UPDATE balance = balance + VALUES(balance)";
+    private static final String MYSQL_INSERT_IF_ABSENT = INSERT + " ON DUPLICATE KEY UPDATE group_balance_id = group_balance_id";
+    private static final String ADD =
+            "UPDATE group_balances SET balance = balance + ? WHERE group_id = ? AND member_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdAllocationPool idAllocationPool;
+    private volatile Boolean mySql;
+
+    // 읽고-쓰기 대신 DB에서 원자적으로 더하므로, 동시에 여러 지출이 반영되어도 잔액이 유실되지 않음.
+    // 원장 행이 없어서 반영되지 않은 항목만 반환함 (호출하는 쪽에서 insertOrAdd).
+    public List<MemberAmount> addDeltas(Long groupId, List<MemberAmount> deltas) {
+        if (deltas.isEmpty()) return List.of();
+
+        int[][] counts = jdbcTemplate.batchUpdate(ADD,
+                deltas,
+                deltas.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.amount());
+                    ps.setLong(2, groupId);
+                    ps.setLong(3, row.memberId());
+                });
+
+        List<MemberAmount> missing = new ArrayList<>();
+        int[] updated = counts[0];
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updated[i] == 0) {
+                missing.add(deltas.get(i));
+            }
+        }
+        return missing;
+    }
+
+    // 조회 후 INSERT 하면 같은 멤버의 첫 지출이 동시에 들어올 때 유니크 키 충돌(500)이 나므로,
+    // 이미 있는 행에는 더하도록 DB에서 처리함 (MySQL: ON DUPLICATE KEY UPDATE)
+    public void insertOrAdd(Long groupId, List<MemberAmount> rows) {
+        if (rows.isEmpty()) return;
+
+        if (!isMySql()) {
+            insertEach(groupId, rows, row -> jdbcTemplate.update(ADD, row.amount(), groupId, row.memberId()));
+            return;
+        }
+        upsert(MYSQL_INSERT_OR_ADD, groupId, rows);
+    }
+
+    // 원장 초기화가 동시에 실행되어도 먼저 만들어진 행을 덮어쓰지 않음
+    public void insertIfAbsent(Long groupId, List<MemberAmount> rows) {
+        if (rows.isEmpty()) return;
+
+        if (!isMySql()) {
+            insertEach(groupId, rows, row -> { });
+            return;
+        }
+        upsert(MYSQL_INSERT_IF_ABSENT, groupId, rows);
+    }
+
+    private void upsert(String sql, Long groupId, List<MemberAmount> rows) {
+        // 충돌해서 INSERT 되지 않은 행의 ID는 버려짐 (ID 구간에 빈 번호가 생길 뿐 문제 없음)
+        long firstId = idAllocationPool.allocate(SEQUENCE_NAME, rows.size());
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                MemberAmount row = rows.get(i);
+                ps.setLong(1, firstId + i);
+                ps.setLong(2, groupId);
+                ps.setLong(3, row.memberId());
+                ps.setLong(4, row.amount());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    // H2(로컬/테스트)의 MERGE는 동시에 실행되면 유니크 키 충돌이 나므로, 행마다 INSERT 후 충돌 시 onDuplicate 실행.
+    // 실패한 문장만 롤백되고 트랜잭션은 유지됨
+    private void insertEach(Long groupId, List<MemberAmount> rows, Consumer<MemberAmount> onDuplicate) {
+        long firstId = idAllocationPool.allocate(SEQUENCE_NAME, rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            MemberAmount row = rows.get(i);
+            try {
+                jdbcTemplate.update(INSERT, firstId + i, groupId, row.memberId(), row.amount());
+            } catch (DuplicateKeyException e) {
+                onDuplicate.accept(row);
+            }
+        }
+    }
+
+    private boolean isMySql() {
+        if (mySql == null) {
+            mySql = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "MySQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return mySql;
+    }
+}
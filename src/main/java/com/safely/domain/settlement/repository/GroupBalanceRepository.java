@@ -0,0 +1,24 @@
+package com.safely.domain.settlement.repository;
+
+import com.safely.domain.settlement.dto.MemberAmount;
+import com.safely.domain.settlement.entity.GroupBalance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface GroupBalanceRepository extends JpaRepository<GroupBalance, Long> {
+    List<GroupBalance> findAllByGroupId(Long groupId);
+
+    // 증감분은 GroupBalanceBulkRepository가 JDBC로 반영해서 영속성 컨텍스트를 거치지 않으므로, 잔액은 엔티티가 아닌 프로젝션으로 DB에서 바로 읽음.
+    @Query("SELECT new com.safely.domain.settlement.dto.MemberAmount(b.member.id, b.balance) FROM GroupBalance b WHERE b.group.id = :groupId")
+    List<MemberAmount> findBalancesByGroupId(@Param("groupId") Long groupId);
+
+    boolean existsByGroupId(Long groupId);
+
+    @Modifying
+    @Query("DELETE FROM GroupBalance b WHERE b.group.id = :groupId")
+    void deleteAllByGroupId(@Param("groupId") Long groupId);
+}
@@ -0,0 +1,57 @@
+package com.safely.domain.settlement.repository;
+
+import com.safely.domain.settlement.dto.MemberAmount;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Settlement는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로, 정산 확정 시 다건 저장은 JDBC 배치로 처리함.
+// MySQL(ON DUPLICATE KEY UPDATE)/H2(MERGE) 전용 문법 대신 표준 INSERT/UPDATE 배치를 사용해서 두 DB에서 같은 SQL로 동작함.
+@Repository
+@RequiredArgsConstructor
+public class SettlementBulkRepository {
+    private final JdbcTemplate jdbcTemplate;
+
+    public record SettlementAmount(Long settlementId, Long netAmount) {}
+
+    public void insertSettled(Long groupId, List<MemberAmount> rows, LocalDateTime now) {
+        if (rows.isEmpty()) return;
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO settlements (group_id, member_id, net_amount, is_settled, settled_at, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, groupId);
+                    ps.setLong(2, row.memberId());
+                    ps.setLong(3, row.amount());
+                    ps.setBoolean(4, true);
+                    ps.setTimestamp(5, timestamp);
+                    ps.setTimestamp(6, timestamp);
+                    ps.setTimestamp(7, timestamp);
+                });
+    }
+
+    public void updateSettled(List<SettlementAmount> rows, LocalDateTime now) {
+        if (rows.isEmpty()) return;
+
+        Timestamp timestamp = Timestamp.valueOf(now);
+        jdbcTemplate.batchUpdate(
+                "UPDATE settlements SET net_amount = ?, is_settled = ?, settled_at = ?, updated_at = ? WHERE settlement_id = ?",
+                rows,
+                rows.size(),
+                (ps, row) -> {
+                    ps.setLong(1, row.netAmount());
+                    ps.setBoolean(2, true);
+                    ps.setTimestamp(3, timestamp);
+                    ps.setTimestamp(4, timestamp);
+                    ps.setLong(5, row.settlementId());
+                });
+    }
+}
@@ -2,9 +2,11 @@ package com.safely.domain.settlement.repository;
 
 import com.safely.domain.settlement.entity.Settlement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +15,10 @@ public interface SettlementRepository extends JpaRepository<Settlement, Long> {
 
     @Query("SELECT s FROM Settlement s JOIN FETCH s.member WHERE s.group.id = :groupId")
     List<Settlement> findAllByGroupId(@Param("groupId") Long groupId);
+
+    // 멤버 수와 관계없이 UPDATE 한 번으로 그룹 전체 정산 내역 초기화
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Settlement s SET s.netAmount = 0, s.isSettled = false, s.settledAt = null, s.updatedAt = :now " +
+            "WHERE s.group.id = :groupId")
+    int resetAllByGroupId(@Param("groupId") Long groupId, @Param("now") LocalDateTime now);
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.safely.domain.settlement.service;
+
+import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.expense.repository.ExpenseParticipantRepository;
+import com.safely.domain.expense.repository.ExpenseRepository;
+import com.safely.domain.settlement.dto.MemberAmount;
+import com.safely.domain.settlement.repository.GroupBalanceBulkRepository;
+import com.safely.domain.settlement.repository.GroupBalanceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BalanceLedgerService {
+    private final GroupBalanceRepository groupBalanceRepository;
+    private final GroupBalanceBulkRepository groupBalanceBulkRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseParticipantRepository expenseParticipantRepository;
+
+    // 멤버별 누적 잔액 조회. 같은 멤버가 여러 행으로 나올 수 있으므로 호출하는 쪽에서 합산해야 함.
+    public List<MemberAmount> getBalances(Long groupId) {
+        List<MemberAmount> rows = groupBalanceRepository.findBalancesByGroupId(groupId);
+        if (rows.isEmpty()) {
+            // 원장 도입 이전에 생성된 그룹은 원장이 비어있으므로 지출 내역을 DB에서 직접 합산함.
+            return calculateFromExpenses(groupId);
+        }
+        return rows;
+    }
+
+    // 지출을 변경하기 전에 호출해야 함. 원장이 없는 그룹은 현재 지출 내역으로 원장을 먼저 채워둠.
+    @Transactional
+    public void ensureInitialized(Long groupId) {
+        if (groupBalanceRepository.existsByGroupId(groupId)) {
+            return;
+        }
+
+        Map<Long, Long> balances = new HashMap<>();
+        for (MemberAmount row : calculateFromExpenses(groupId)) {
+            balances.merge(row.memberId(), row.amount(), Long::sum);
+        }
+        // 같은 그룹의 첫 지출 변경이 동시에 들어오면 둘 다 여기까지 올 수 있으므로, 이미 생긴 행은 건너뜀
+        List<MemberAmount> rows = new ArrayList<>(balances.size());
+        balances.forEach((memberId, balance) -> rows.add(new MemberAmount(memberId, balance)));
+        groupBalanceBulkRepository.insertIfAbsent(groupId, rows);
+        log.info("[+] 잔액 원장 초기화 완료: GroupID={}, MemberCount={}", groupId, balances.size());
+    }
+
+    // 지출 변경 전/후의 기여분 차이만큼만 원장에 반영 (생성: before 비어있음, 삭제: after 비어있음)
+    @Transactional
+    public void applyChange(Long groupId, Map<Long, Long> before, Map<Long, Long> after) {
+        Map<Long, Long> deltas = new HashMap<>(after);
+        before.forEach((memberId, amount) -> deltas.merge(memberId, -amount, Long::sum));
+
+        List<MemberAmount> changes = new ArrayList<>(deltas.size());
+        deltas.forEach((memberId, delta) -> {
+            if (delta != 0L) {
+                changes.add(new MemberAmount(memberId, delta));
+            }
+        });
+
+        // 원장 행이 없는 멤버(그룹의 첫 지출 참여)는 INSERT, 그 사이 다른 요청이 만들었으면 그 행에 더함
+        List<MemberAmount> missing = groupBalanceBulkRepository.addDeltas(groupId, changes);
+        groupBalanceBulkRepository.insertOrAdd(groupId, missing);
+    }
+
+    @Transactional
+    public void deleteAll(Long groupId) {
+        groupBalanceRepository.deleteAllByGroupId(groupId);
+    }
+
+    // 지출 한 건이 멤버별 잔액에 미치는 영향 (결제자: +총액, 참여자: -분담금)
+    public static Map<Long, Long> contributionOf(Expense expense) {
+        Map<Long, Long> contribution = new HashMap<>();
+        contribution.merge(expense.getPayer().getId(), expense.getAmount(), Long::sum);
+        expense.getParticipants().forEach(participant ->
+                contribution.merge(participant.getMember().getId(), -participant.getAmount(), Long::sum));
+        return contribution;
+    }
+
+    // 결제자별 합계(+)와 참여자별 분담금 합계(-)를 그대로 이어붙여 반환 (Expense 엔티티를 만들지 않음)
+    private List<MemberAmount> calculateFromExpenses(Long groupId) {
+        List<MemberAmount> paid = expenseRepository.sumAmountGroupByPayer(groupId);
+        List<MemberAmount> owed = expenseParticipantRepository.sumAmountGroupByMember(groupId);
+
+        List<MemberAmount> rows = new ArrayList<>(paid.size() + owed.size());
+        rows.addAll(paid);
+        for (MemberAmount row : owed) {
+            rows.add(new MemberAmount(row.memberId(), -row.amount()));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,46 @@
+package com.safely.domain.settlement.service;
+
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.settlement.dto.MemberAmount;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+// 정산 계산용 잔액표. memberId 순으로 정렬된 멤버 배열과 같은 인덱스의 잔액(long[])으로 구성되어 박싱 없이 합산함.
+@Getter
+public class BalanceSheet {
+    private final Member[] members;
+    private final long[] balances;
+
+    private BalanceSheet(Member[] members, long[] balances) {
+        this.members = members;
+        this.balances = balances;
+    }
+
+    // rows에는 같은 멤버가 여러 번 나올 수 있으며(결제 합계 +, 분담 합계 -) 모두 더해짐. 멤버 목록에 없는 행은 무시함.
+    public static BalanceSheet of(Collection<Member> members, List<MemberAmount> rows) {
+        Member[] sorted = members.toArray(Member[]::new);
+        Arrays.sort(sorted, Comparator.comparingLong(Member::getId));
+
+        long[] ids = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+        }
+
+        long[] balances = new long[sorted.length];
+        for (MemberAmount row : rows) {
+            int index = Arrays.binarySearch(ids, row.memberId());
+            if (index >= 0) {
+                balances[index] += row.amount();
+            }
+        }
+        return new BalanceSheet(sorted, balances);
+    }
+
+    public int size() {
+        return members.length;
+    }
+}
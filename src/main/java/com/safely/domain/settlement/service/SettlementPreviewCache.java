@@ -0,0 +1,177 @@
+package com.safely.domain.settlement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safely.domain.settlement.dto.SettlementResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+// 그룹별 정산 프리뷰 캐시.
+// 지출/멤버 변경 시 버전 키만 INCR 하고, 캐시 키에 버전을 붙여서 이전 버전 데이터는 TTL로 자연 만료되게 함.
+// Redis 장애 시에는 캐시 없이 DB에서 바로 계산함.
+@Slf4j
+@Component
+public class SettlementPreviewCache {
+    private static final String VERSION_KEY = "settlement:version:";
+    private static final String PREVIEW_KEY = "settlement:preview:";
+    private static final String LOCK_KEY = "settlement:lock:";
+
+    // 멤버 이름/프로필 변경은 버전을 올리지 않으므로 TTL 만큼만 이전 값이 보일 수 있음
+    private static final Duration PREVIEW_TTL = Duration.ofMinutes(5);
+    private static final Duration LOCK_TTL = Duration.ofSeconds(3);
+    private static final int LOCK_WAIT_RETRIES = 10;
+    private static final long LOCK_WAIT_MS = 50L;
+
+    private static final TypeReference<List<SettlementResponse>> PREVIEW_TYPE = new TypeReference<>() {};
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+    private final Timer recomputeTimer;
+
+    public SettlementPreviewCache(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.hitCounter = meterRegistry.counter("settlement.preview.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("settlement.preview.cache", "result", "miss");
+        this.errorCounter = meterRegistry.counter("settlement.preview.cache", "result", "error");
+        this.recomputeTimer = meterRegistry.timer("settlement.preview.recompute");
+    }
+
+    public List<SettlementResponse> get(Long groupId, Supplier<List<SettlementResponse>> loader) {
+        String previewKey;
+        try {
+            previewKey = PREVIEW_KEY + groupId + ":" + currentVersion(groupId);
+            List<SettlementResponse> cached = read(previewKey);
+            if (cached != null) {
+                hitCounter.increment();
+                return cached;
+            }
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("[!] 정산 프리뷰 캐시 조회 실패, DB에서 직접 계산: GroupID={}, Error={}", groupId, e.getMessage());
+            return recompute(loader);
+        }
+
+        missCounter.increment();
+        return loadWithLock(groupId, previewKey, loader);
+    }
+
+    // 커밋이 끝난 뒤에 버전을 올려야, 다른 요청이 커밋 전 데이터로 새 버전 캐시를 채우는 일이 없음
+    public void evictAfterCommit(Long groupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(groupId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(groupId);
+            }
+        });
+    }
+
+    private void evict(Long groupId) {
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY + groupId);
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("[!] 정산 프리뷰 캐시 무효화 실패: GroupID={}, Error={}", groupId, e.getMessage());
+        }
+    }
+
+    // 캐시가 비어있을 때 한 요청만 계산하도록 SETNX 락을 잡고, 나머지는 잠깐 기다렸다가 캐시를 다시 읽음
+    private List<SettlementResponse> loadWithLock(Long groupId, String previewKey,
+                                                  Supplier<List<SettlementResponse>> loader) {
+        String lockKey = LOCK_KEY + previewKey.substring(PREVIEW_KEY.length());
+        boolean locked;
+        try {
+            locked = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, "1", LOCK_TTL));
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("[!] 정산 프리뷰 캐시 락 획득 실패, DB에서 직접 계산: GroupID={}, Error={}", groupId, e.getMessage());
+            return recompute(loader);
+        }
+
+        if (locked) {
+            try {
+                List<SettlementResponse> preview = recompute(loader);
+                write(groupId, previewKey, preview);
+                return preview;
+            } finally {
+                release(lockKey);
+            }
+        }
+
+        try {
+            for (int i = 0; i < LOCK_WAIT_RETRIES; i++) {
+                Thread.sleep(LOCK_WAIT_MS);
+                List<SettlementResponse> cached = read(previewKey);
+                if (cached != null) {
+                    hitCounter.increment();
+                    return cached;
+                }
+            }
+            log.info("[*] 정산 프리뷰 캐시 대기 시간 초과, 직접 계산: GroupID={}", groupId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            errorCounter.increment();
+            log.warn("[!] 정산 프리뷰 캐시 대기 중 조회 실패: GroupID={}, Error={}", groupId, e.getMessage());
+        }
+        return recompute(loader);
+    }
+
+    private void write(Long groupId, String previewKey, List<SettlementResponse> preview) {
+        try {
+            redisTemplate.opsForValue().set(previewKey, objectMapper.writeValueAsString(preview), PREVIEW_TTL);
+        } catch (JsonProcessingException | RuntimeException e) {
+            errorCounter.increment();
+            log.warn("[!] 정산 프리뷰 캐시 저장 실패: GroupID={}, Error={}", groupId, e.getMessage());
+        }
+    }
+
+    private void release(String lockKey) {
+        try {
+            redisTemplate.delete(lockKey);
+        } catch (RuntimeException e) {
+            log.warn("[!] 정산 프리뷰 캐시 락 해제 실패, TTL 만료 대기: Key={}", lockKey);
+        }
+    }
+
+    private List<SettlementResponse> recompute(Supplier<List<SettlementResponse>> loader) {
+        return recomputeTimer.record(loader);
+    }
+
+    private String currentVersion(Long groupId) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY + groupId);
+        return version != null ? version : "0";
+    }
+
+    private List<SettlementResponse> read(String previewKey) {
+        String json = redisTemplate.opsForValue().get(previewKey);
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, PREVIEW_TYPE);
+        } catch (JsonProcessingException e) {
+            log.warn("[!] 정산 프리뷰 캐시 역직렬화 실패, 캐시 무시: Key={}", previewKey);
+            return null;
+        }
+    }
+}
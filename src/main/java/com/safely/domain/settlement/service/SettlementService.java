@@ -1,120 +1,163 @@
 package com.safely.domain.settlement.service;
 
-import com.safely.domain.expense.entity.Expense;
-import com.safely.domain.expense.repository.ExpenseRepository;
-import com.safely.domain.group.entity.Group;
 import com.safely.domain.group.entity.GroupMember;
 import com.safely.domain.group.repository.GroupMemberRepository;
 import com.safely.domain.group.repository.GroupRepository;
 import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.dto.MemberAmount;
 import com.safely.domain.settlement.dto.SettlementResponse;
+import com.safely.domain.settlement.dto.SettlementTransferResponse;
 import com.safely.domain.settlement.entity.Settlement;
+import com.safely.domain.settlement.repository.SettlementBulkRepository;
 import com.safely.domain.settlement.repository.SettlementRepository;
 import com.safely.global.exception.ErrorCode;
 import com.safely.global.exception.common.EntityNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class SettlementService {
-    private final ExpenseRepository expenseRepository;
+    private final BalanceLedgerService balanceLedgerService;
     private final GroupMemberRepository groupMemberRepository;
     private final SettlementRepository settlementRepository;
+    private final SettlementBulkRepository settlementBulkRepository;
     private final GroupRepository groupRepository;
-
-    // 정산 프리뷰 (DB 저장 X, 계산 결과만 반환)
+    private final MemberRepository memberRepository;
+    private final SettlementTransferCalculator transferCalculator;
+    private final SettlementPreviewCache settlementPreviewCache;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    // 정산 프리뷰 (DB 저장 X, 계산 결과만 반환). 그룹의 지출/멤버가 바뀌기 전까지는 Redis 캐시 결과를 재사용함.
+    // 캐시 적중 시에는 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행하고, 다시 계산할 때만 읽기 전용 트랜잭션을 엶.
+    // (NOT_SUPPORTED는 호출한 쪽 트랜잭션을 중단시켜 아직 커밋 전인 변경을 못 보므로, 있으면 참여하는 SUPPORTS 사용)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<SettlementResponse> getSettlementPreview(Long groupId) {
-        List<GroupMember> groupMembers = findGroupMembers(groupId);
+        return settlementPreviewCache.get(groupId, () -> calculatePreview(groupId));
+    }
+
+    private List<SettlementResponse> calculatePreview(Long groupId) {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        return readOnly.execute(status -> {
+            BalanceSheet sheet = calculateSettlement(groupId);
+            log.info("[*] 정산 프리뷰 계산 완료: GroupID={}, MemberCount={}", groupId, sheet.size());
+
+            List<SettlementResponse> responses = new ArrayList<>(sheet.size());
+            for (int i = 0; i < sheet.size(); i++) {
+                responses.add(SettlementResponse.of(sheet.getMembers()[i], sheet.getBalances()[i]));
+            }
+            return responses;
+        });
+    }
 
-        List<Expense> expenses = expenseRepository.findAllByGroupId(groupId);
+    // 송금 안내 (누가 누구에게 얼마를 보내면 되는지, 송금 횟수를 최소화해서 반환)
+    public List<SettlementTransferResponse> getSettlementTransfers(Long groupId) {
+        BalanceSheet sheet = calculateSettlement(groupId);
+        Member[] members = sheet.getMembers();
 
-        Map<Member, Long> resultMap = calculateSettlement(groupMembers, expenses);
-        log.info("[*] 정산 프리뷰 계산 완료: GroupID={}, MemberCount={}", groupId, groupMembers.size());
+        List<SettlementTransferCalculator.Transfer> transfers = transferCalculator.calculate(sheet.getBalances());
+        log.info("[*] 송금 목록 계산 완료: GroupID={}, MemberCount={}, TransferCount={}",
+                groupId, members.length, transfers.size());
 
-        return resultMap.entrySet().stream()
-                .map(entry -> SettlementResponse.of(entry.getKey(), entry.getValue()))
+        return transfers.stream()
+                .map(t -> SettlementTransferResponse.of(members[t.from()], members[t.to()], t.amount()))
                 .toList();
     }
 
     // 정산 완료 (계산 후 DB 저장)
     @Transactional
     public void completeSettlement(Long groupId) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.GROUP_NOT_FOUND));
-
-        List<GroupMember> groupMembers = findGroupMembers(groupId);
-        List<Expense> expenses = expenseRepository.findAllByGroupId(groupId);
-
-        Map<Member, Long> resultMap = calculateSettlement(groupMembers, expenses);
-
-        // DB Upsert (기존 내역 있으면 업데이트, 없으면 생성)
-        for (Map.Entry<Member, Long> entry : resultMap.entrySet()) {
-            Member member = entry.getKey();
-            Long netAmount = entry.getValue();
-
-            // 여기서 orElse 대신 orElseGet(함수)를 사용하는 이유 : orElse는 new Settlement()를 실행해서 낭비발생할 여지가 있음.
-            // 반면에 orElseGet()은 DB에 데이터가 있으면, 괄호안의 코드를 아예 실행하지 않아서 효율적임.
-            Settlement settlement = settlementRepository.findByGroupIdAndMemberId(groupId, member.getId())
-                    .orElseGet(() -> Settlement.builder()
-                            .group(group)
-                            .member(member)
-                            .netAmount(0L)
-                            .isSettled(false)
-                            .build());
-
-            // 정산 확정 (netAmount 저장, isSettled=true, settledAt=now)
-            settlement.update(netAmount, true);
-            settlementRepository.save(settlement);
+        if (!groupRepository.existsById(groupId)) {
+            throw new EntityNotFoundException(ErrorCode.GROUP_NOT_FOUND);
+        }
+
+        BalanceSheet sheet = calculateSettlement(groupId);
+
+        // 기존 정산 내역을 한 번에 조회 (Key: memberId)
+        Map<Long, Settlement> existing = new HashMap<>();
+        for (Settlement settlement : settlementRepository.findAllByGroupId(groupId)) {
+            existing.put(settlement.getMember().getId(), settlement);
+        }
+
+        // Upsert 대상 분류 (기존 내역 있으면 업데이트, 없으면 생성).
+        // 금액이 같아도 마지막 확정 시각(settledAt)은 새로 남겨야 하므로 기존 내역은 모두 업데이트함
+        List<MemberAmount> inserts = new ArrayList<>();
+        List<SettlementBulkRepository.SettlementAmount> updates = new ArrayList<>();
+        for (int i = 0; i < sheet.size(); i++) {
+            Long memberId = sheet.getMembers()[i].getId();
+            long netAmount = sheet.getBalances()[i];
+
+            Settlement settlement = existing.get(memberId);
+            if (settlement == null) {
+                inserts.add(new MemberAmount(memberId, netAmount));
+            } else {
+                updates.add(new SettlementBulkRepository.SettlementAmount(settlement.getId(), netAmount));
+            }
         }
-        log.info("[+] 정산 확정 및 저장 완료: GroupID={}", groupId);
+
+        // 정산 확정 (netAmount 저장, isSettled=true, settledAt=now)
+        LocalDateTime now = LocalDateTime.now();
+        settlementBulkRepository.insertSettled(groupId, inserts, now);
+        settlementBulkRepository.updateSettled(updates, now);
+        log.info("[+] 정산 확정 및 저장 완료: GroupID={}, Inserted={}, Updated={}", groupId, inserts.size(), updates.size());
     }
 
     @Transactional
     public void cancelSettlement(Long groupId) {
-        List<Settlement> settlements = settlementRepository.findAllByGroupId(groupId);
-        for (Settlement settlement : settlements) {
-            // 초기화 (netAmount=0, isSettled=false, settledAt=null)
-            settlement.update(0L, false);
-        }
-        log.info("[-] 정산 내역 초기화(취소) 완료: GroupID={}", groupId);
+        // 초기화 (netAmount=0, isSettled=false, settledAt=null)
+        int count = settlementRepository.resetAllByGroupId(groupId, LocalDateTime.now());
+        log.info("[-] 정산 내역 초기화(취소) 완료: GroupID={}, Count={}", groupId, count);
     }
 
     private List<GroupMember> findGroupMembers(Long groupId) {
         return groupMemberRepository.findAllByGroupIdWithMember(groupId);
     }
 
-    // 정산 알고리즘
-    private Map<Member, Long> calculateSettlement(List<GroupMember> groupMembers, List<Expense> expenses) {
-        Map<Member, Long> balanceMap = new HashMap<>();
+    private BalanceSheet calculateSettlement(Long groupId) {
+        return meterRegistry.timer("settlement.calculate").record(() -> loadBalanceSheet(groupId));
+    }
+
+    // 정산 알고리즘 (지출 내역을 매번 다시 더하지 않고, 누적 잔액 원장을 멤버당 한 행씩 읽음)
+    private BalanceSheet loadBalanceSheet(Long groupId) {
+        Map<Long, Member> memberById = new HashMap<>();
 
-        // 모든 멤버 0원으로 초기화
-        for (GroupMember gm : groupMembers) {
-            balanceMap.put(gm.getMember(), 0L);
+        // 모든 그룹 멤버는 잔액이 없어도 0원으로 포함
+        for (GroupMember gm : findGroupMembers(groupId)) {
+            memberById.put(gm.getMember().getId(), gm.getMember());
         }
 
-        for (Expense expense : expenses) {
-            Member payer = expense.getPayer();
-            Long totalAmount = expense.getAmount();
-
-            // A. 결제자: (+) 받을 권리 증가
-            balanceMap.put(payer, balanceMap.getOrDefault(payer, 0L) + totalAmount);
+        List<MemberAmount> balances = balanceLedgerService.getBalances(groupId);
 
-            // B. 참여자: (-) 내야 할 의무 증가
-            expense.getParticipants().forEach(participant -> {
-                Member m = participant.getMember();
-                Long splitAmount = participant.getAmount();
-                balanceMap.put(m, balanceMap.getOrDefault(m, 0L) - splitAmount);
-            });
+        // 그룹을 나간 멤버 등 그룹 멤버 목록에 없는 사람의 잔액도 누락되지 않도록 추가 조회
+        Set<Long> missingIds = new HashSet<>();
+        for (MemberAmount row : balances) {
+            if (!memberById.containsKey(row.memberId())) {
+                missingIds.add(row.memberId());
+            }
         }
-        return balanceMap;
+        if (!missingIds.isEmpty()) {
+            memberRepository.findAllById(missingIds).forEach(m -> memberById.put(m.getId(), m));
+        }
+
+        return BalanceSheet.of(memberById.values(), balances);
     }
 }
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.safely.domain.settlement.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 멤버별 순잔액(+받을 돈 / -보낼 돈)을 "누가 누구에게 얼마" 송금 목록으로 줄여주는 계산기.
+// 입력/출력 모두 배열 인덱스 기준이며, 박싱 없이 long[] 위에서만 동작함.
+@Slf4j
+@Component
+public class SettlementTransferCalculator {
+    // 잔액이 0이 아닌 인원이 이 값 이하이면 최소 송금 횟수를 보장하는 정확한 계산(부분집합 DP)을 사용함.
+    // 2^N 메모리/시간이 들기 때문에 큰 그룹은 힙 기반 greedy로 처리함.
+    public static final int EXACT_MODE_LIMIT = 16;
+
+    public record Transfer(int from, int to, long amount) {}
+
+    public List<Transfer> calculate(long[] balances) {
+        int nonZero = 0;
+        for (long balance : balances) {
+            if (balance != 0L) nonZero++;
+        }
+        return nonZero <= EXACT_MODE_LIMIT ? calculateExact(balances) : calculateGreedy(balances);
+    }
+
+    // 가장 많이 받을 사람과 가장 많이 보낼 사람을 계속 짝지음. O(N log N), 송금 횟수는 최대 N-1건.
+    public List<Transfer> calculateGreedy(long[] balances) {
+        validateSum(balances);
+
+        int n = balances.length;
+        long[] remain = Arrays.copyOf(balances, n);
+        IndexHeap creditors = new IndexHeap(n, remain, false);
+        IndexHeap debtors = new IndexHeap(n, remain, true);
+        for (int i = 0; i < n; i++) {
+            if (remain[i] > 0) creditors.push(i);
+            else if (remain[i] < 0) debtors.push(i);
+        }
+
+        List<Transfer> transfers = new ArrayList<>();
+        settle(creditors, debtors, remain, transfers);
+        return transfers;
+    }
+
+    // 합이 0인 부분집합으로 최대한 많이 쪼개면, 송금 횟수 = (잔액 있는 인원 수 - 부분집합 수)로 최소가 됨.
+    public List<Transfer> calculateExact(long[] balances) {
+        validateSum(balances);
+
+        int[] members = nonZeroIndexes(balances);
+        int n = members.length;
+        if (n > EXACT_MODE_LIMIT) {
+            throw new IllegalArgumentException("exact mode supports up to " + EXACT_MODE_LIMIT + " members: " + n);
+        }
+        List<Transfer> transfers = new ArrayList<>();
+        if (n == 0) {
+            return transfers;
+        }
+
+        int full = (1 << n) - 1;
+        long[] sum = new long[full + 1];
+        int[] best = new int[full + 1];   // mask 안에서 만들 수 있는 합 0 부분집합의 최대 개수
+        byte[] last = new byte[full + 1]; // best를 만든 마지막 원소 (역추적용)
+
+        for (int mask = 1; mask <= full; mask++) {
+            int low = Integer.numberOfTrailingZeros(mask);
+            sum[mask] = sum[mask & (mask - 1)] + balances[members[low]];
+
+            int bestCount = -1;
+            for (int rest = mask; rest != 0; rest &= rest - 1) {
+                int i = Integer.numberOfTrailingZeros(rest);
+                int count = best[mask ^ (1 << i)];
+                if (count > bestCount) {
+                    bestCount = count;
+                    last[mask] = (byte) i;
+                }
+            }
+            best[mask] = bestCount + (sum[mask] == 0L ? 1 : 0);
+        }
+
+        // 원소를 빼낸 순서를 거꾸로 따라가며, 누적합이 0이 되는 지점마다 하나의 정산 묶음으로 자름
+        int[] order = new int[n];
+        int mask = full;
+        for (int k = n - 1; k >= 0; k--) {
+            order[k] = last[mask];
+            mask ^= 1 << last[mask];
+        }
+
+        long[] remain = Arrays.copyOf(balances, balances.length);
+        IndexHeap creditors = new IndexHeap(balances.length, remain, false);
+        IndexHeap debtors = new IndexHeap(balances.length, remain, true);
+        long groupSum = 0L;
+        for (int k = 0; k < n; k++) {
+            int index = members[order[k]];
+            if (remain[index] > 0) creditors.push(index);
+            else debtors.push(index);
+
+            groupSum += remain[index];
+            if (groupSum == 0L) {
+                settle(creditors, debtors, remain, transfers);
+            }
+        }
+        return transfers;
+    }
+
+    private void settle(IndexHeap creditors, IndexHeap debtors, long[] remain, List<Transfer> transfers) {
+        while (!creditors.isEmpty() && !debtors.isEmpty()) {
+            int to = creditors.pop();
+            int from = debtors.pop();
+            long amount = Math.min(remain[to], -remain[from]);
+
+            transfers.add(new Transfer(from, to, amount));
+            remain[to] -= amount;
+            remain[from] += amount;
+
+            if (remain[to] > 0) creditors.push(to);
+            if (remain[from] < 0) debtors.push(from);
+        }
+    }
+
+    private int[] nonZeroIndexes(long[] balances) {
+        int count = 0;
+        for (long balance : balances) {
+            if (balance != 0L) count++;
+        }
+        int[] indexes = new int[count];
+        int k = 0;
+        for (int i = 0; i < balances.length; i++) {
+            if (balances[i] != 0L) indexes[k++] = i;
+        }
+        return indexes;
+    }
+
+    private void validateSum(long[] balances) {
+        long total = 0L;
+        for (long balance : balances) {
+            total = Math.addExact(total, balance);
+        }
+        if (total != 0L) {
+            log.warn("[!] 송금 계산 실패: 잔액 합계가 0이 아님. Sum={}", total);
+            throw new IllegalArgumentException("balances must sum to zero: " + total);
+        }
+    }
+
+    // 금액 배열(keys)을 기준으로 인덱스를 정렬하는 최대 힙. 같은 금액이면 인덱스가 작은 쪽이 먼저 나와서 결과가 항상 같음.
+    private static final class IndexHeap {
+        private final int[] heap;
+        private final long[] keys;
+        private final boolean negate;
+        private int size;
+
+        IndexHeap(int capacity, long[] keys, boolean negate) {
+            this.heap = new int[capacity];
+            this.keys = keys;
+            this.negate = negate;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void push(int index) {
+            int pos = size++;
+            heap[pos] = index;
+            while (pos > 0) {
+                int parent = (pos - 1) >>> 1;
+                if (!higher(heap[pos], heap[parent])) break;
+                swap(pos, parent);
+                pos = parent;
+            }
+        }
+
+        int pop() {
+            int top = heap[0];
+            heap[0] = heap[--size];
+            int pos = 0;
+            while (true) {
+                int left = pos * 2 + 1;
+                if (left >= size) break;
+                int child = left + 1 < size && higher(heap[left + 1], heap[left]) ? left + 1 : left;
+                if (!higher(heap[child], heap[pos])) break;
+                swap(pos, child);
+                pos = child;
+            }
+            return top;
+        }
+
+        private boolean higher(int a, int b) {
+            long ka = negate ? -keys[a] : keys[a];
+            long kb = negate ? -keys[b] : keys[b];
+            return ka != kb ? ka > kb : a < b;
+        }
+
+        private void swap(int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+    }
+}
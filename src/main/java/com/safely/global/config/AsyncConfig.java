@@ -0,0 +1,22 @@
+package com.safely.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// @Async 작업 실행 설정.
+// 실행기는 스프링 부트 기본값(applicationTaskExecutor)을 사용하므로 spring.threads.virtual.enabled=true면 가상 스레드에서 실행됨.
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // JWT 필터가 요청 스레드의 SecurityContextHolder에 넣은 인증 정보를 @Async 작업 스레드로 넘겨줌.
+    // (SecurityContextHolder는 ThreadLocal 기반이라 스레드가 바뀌면 비어있음)
+    @Bean
+    public TaskDecorator securityContextTaskDecorator() {
+        return runnable -> new DelegatingSecurityContextRunnable(runnable, SecurityContextHolder.getContext());
+    }
+}
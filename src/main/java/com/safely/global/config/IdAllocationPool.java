@@ -0,0 +1,103 @@
+package com.safely.global.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+
+// 엔티티 ID 블록(id_sequences)을 받아올 때만 쓰는 전용 커넥션 풀.
+// ID 블록은 요청 트랜잭션과 별개의 트랜잭션에서 받아와야 하는데, 그 커넥션을 메인 풀에서 가져오면
+// 동시에 INSERT하는 요청이 풀 크기만큼 몰렸을 때 모든 커넥션이 ID 할당을 기다리는 요청에 잡혀 있어서 교착 상태가 됨.
+// 전용 풀에서 가져오면 메인 풀이 가득 차도 ID 할당은 항상 진행됨 (PooledTableIdGenerator가 사용)
+@Slf4j
+@Component
+public class IdAllocationPool implements HibernatePropertiesCustomizer, DisposableBean {
+    // 하이버네이트 설정에 이 객체를 넣어서 ID 생성기가 찾아 쓰도록 함
+    static final String SETTING = "safely.id_allocation_pool";
+
+    private final HikariDataSource dataSource;
+
+    public IdAllocationPool(DataSourceProperties properties, @Value("${id-allocation.pool-size:2}") int poolSize) {
+        this.dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("safely-id-allocation");
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setMinimumIdle(0); // ID 블록은 50건마다 한 번만 받아오므로 평소에는 커넥션을 들고 있지 않음
+        dataSource.setAutoCommit(false);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(SETTING, this);
+    }
+
+    // JPA를 거치지 않고 JDBC로 INSERT하는 행의 ID를 count개 연속으로 할당받아 첫 번째 값을 반환함.
+    // 하이버네이트 생성기와 같은 id_sequences 행에서 구간을 가져가므로 서로 겹치지 않음
+    public long allocate(String sequenceName, int count) {
+        try {
+            return execute(connection -> {
+                Long current = null;
+                try (PreparedStatement select = connection.prepareStatement(
+                        "SELECT next_val FROM id_sequences WHERE sequence_name = ? FOR UPDATE")) {
+                    select.setString(1, sequenceName);
+                    try (ResultSet resultSet = select.executeQuery()) {
+                        if (resultSet.next()) {
+                            current = resultSet.getLong(1);
+                        }
+                    }
+                }
+                if (current == null) {
+                    try (PreparedStatement insert = connection.prepareStatement(
+                            "INSERT INTO id_sequences (sequence_name, next_val) VALUES (?, 1)")) {
+                        insert.setString(1, sequenceName);
+                        insert.executeUpdate();
+                    }
+                    current = 1L;
+                }
+
+                long first = Math.max(current, 1L); // 하이버네이트가 처음 만든 행은 0부터 시작함
+                try (PreparedStatement update = connection.prepareStatement(
+                        "UPDATE id_sequences SET next_val = ? WHERE sequence_name = ?")) {
+                    update.setLong(1, first + count);
+                    update.setString(2, sequenceName);
+                    update.executeUpdate();
+                }
+                return first;
+            });
+        } catch (SQLException e) {
+            throw new IllegalStateException("ID 할당 실패: " + sequenceName, e);
+        }
+    }
+
+    // 전용 커넥션에서 작업을 실행하고 바로 커밋함 (요청 트랜잭션이 롤백되어도 받아온 ID 블록은 유지)
+    <T> T execute(Work<T> work) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try {
+                T result = work.execute(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dataSource.close();
+    }
+
+    @FunctionalInterface
+    interface Work<T> {
+        T execute(Connection connection) throws SQLException;
+    }
+}
@@ -1,52 +1,178 @@
 package com.safely.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.util.Arrays;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+// 컨트롤러 요청 시간 측정.
+// 지연 시간은 모든 요청을 엔드포인트별 히스토그램(controller.requests)으로 기록하고,
+// 로그는 샘플링된 요청과 느린 요청만 남김. 파라미터 문자열은 느린 요청/예외 로그를 실제로 찍을 때만 만듦.
 @Slf4j
 @Aspect
 @Component
 public class LogAspect {
+    private static final int MAX_RENDERED_LENGTH = 500;
+
+    private final MeterRegistry meterRegistry;
+    private final RequestLogProperties properties;
+    private final Map<Method, EndpointTimers> timers = new ConcurrentHashMap<>();
+
+    public LogAspect(MeterRegistry meterRegistry, RequestLogProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
     // 모든 도메인의 controller 패키지 하위의 모든 메서드를 타겟으로 잡음.
     @Pointcut("execution(* com.safely.domain..controller..*(..))")
     public void controllerPointcut() {}
 
     @Around("controllerPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
-        String params = Arrays.toString(joinPoint.getArgs());
-
-        // 요청 진입 로그
-        log.info("[*] Request: [{} {}] -> {}.{}() | Params: {}",
-                request.getMethod(), request.getRequestURI(), className, methodName, params);
-
-        long start = System.currentTimeMillis();
-
+        long start = System.nanoTime();
         try {
             Object result = joinPoint.proceed(); // 실제 메서드 실행
-            long executionTime = System.currentTimeMillis() - start;
+            long elapsed = System.nanoTime() - start;
+            endpointTimers(joinPoint).success().record(elapsed, TimeUnit.NANOSECONDS);
 
-            // 응답 성공 로그
-            log.info("[*] Response: {}.{}() | Time: {}ms", className, methodName, executionTime);
+            if (elapsed > TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMs())) {
+                log.warn("[!] Slow Request: [{}] -> {} | Time: {}ms | Params: {}",
+                        requestLine(), endpoint(joinPoint), toMillis(elapsed), new LazyArgs(joinPoint.getArgs()));
+            } else if (log.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < properties.getSampleRate()) {
+                log.info("[*] Request: [{}] -> {} | Time: {}ms", requestLine(), endpoint(joinPoint), toMillis(elapsed));
+            }
             return result;
         } catch (Exception e) {
-            long executionTime = System.currentTimeMillis() - start;
+            long elapsed = System.nanoTime() - start;
+            endpointTimers(joinPoint).error().record(elapsed, TimeUnit.NANOSECONDS);
             // 예외 발생 로그 (GlobalExceptionHandler로 가기 전 기록)
-            log.error("[!] Exception in {}.{}() | Time: {}ms | Message: {}",
-                    className, methodName, executionTime, e.getMessage());
+            log.error("[!] Exception in {} | Time: {}ms | Message: {} | Params: {}",
+                    endpoint(joinPoint), toMillis(elapsed), e.getMessage(), new LazyArgs(joinPoint.getArgs()));
             throw e;
         }
     }
-}
\ No newline at end of file
+
+    // 엔드포인트마다 타이머를 한 번만 만들고 재사용함 (요청마다 태그/빌더 객체를 만들지 않도록)
+    private EndpointTimers endpointTimers(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        return timers.computeIfAbsent(method, m -> new EndpointTimers(
+                timer(m, "success"), timer(m, "error")));
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder("controller.requests")
+                .description("컨트롤러 메서드 처리 시간")
+                .tag("controller", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private String endpoint(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName() + "()";
+    }
+
+    private String requestLine() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return "-";
+    }
+
+    private double toMillis(long nanos) {
+        return nanos / 100_000 / 10.0; // 소수점 한 자리까지
+    }
+
+    private record EndpointTimers(Timer success, Timer error) {}
+
+    // 로그 포맷터가 toString()을 호출할 때만 파라미터를 문자열로 만듦.
+    // 파일은 이름/크기만, 큰 컬렉션은 크기만 남기고, 전체 길이도 잘라서 대량 요청 DTO를 그대로 찍지 않음.
+    // 요청 DTO(record)의 비밀번호/토큰 필드는 값을 가림 (LoginRequest, MemberUpdateRequest, RefreshTokenRequest 등)
+    record LazyArgs(Object[] args) {
+        private static final int MAX_COLLECTION_SIZE = 10;
+        private static final List<String> SENSITIVE_NAMES = List.of("password", "token", "secret");
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("[");
+            for (int i = 0; i < args.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(render(args[i]));
+                if (builder.length() > MAX_RENDERED_LENGTH) {
+                    builder.setLength(MAX_RENDERED_LENGTH);
+                    return builder.append("...]").toString();
+                }
+            }
+            return builder.append("]").toString();
+        }
+
+        private String render(Object arg) {
+            if (arg instanceof MultipartFile file) {
+                return "MultipartFile(" + file.getOriginalFilename() + ", " + file.getSize() + " bytes)";
+            }
+            if (arg instanceof Collection<?> collection && collection.size() > MAX_COLLECTION_SIZE) {
+                return arg.getClass().getSimpleName() + "(size=" + collection.size() + ")";
+            }
+            if (arg instanceof Record record) {
+                return renderRecord(record);
+            }
+            return String.valueOf(arg);
+        }
+
+        private String renderRecord(Record record) {
+            StringBuilder builder = new StringBuilder(record.getClass().getSimpleName()).append("[");
+            RecordComponent[] components = record.getClass().getRecordComponents();
+            for (int i = 0; i < components.length; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                String name = components[i].getName();
+                builder.append(name).append("=");
+                if (isSensitive(name)) {
+                    builder.append("****");
+                    continue;
+                }
+                try {
+                    components[i].getAccessor().setAccessible(true);
+                    builder.append(render(components[i].getAccessor().invoke(record)));
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    builder.append("?");
+                }
+            }
+            return builder.append("]").toString();
+        }
+
+        private boolean isSensitive(String name) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            return SENSITIVE_NAMES.stream().anyMatch(lower::contains);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.safely.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.support.MetricsRetryListener;
+
+// 스프링 부트가 자동으로 수집하지 않는 메트릭 설정.
+// (HTTP 요청, Hikari 커넥션 풀, Lettuce 명령 지연 시간은 액추에이터가 자동으로 수집함)
+@Configuration
+public class MetricsConfig {
+
+    // 요청별 SQL 실행 수 집계 (SqlStatementMetricsFilter)
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    // 지출 수정 재시도(ExpenseWriteCoordinator)에서 사용. 시도 횟수/최종 결과별 spring.retry 타이머를 남김
+    @Bean
+    public MetricsRetryListener retryMetricsListener(MeterRegistry meterRegistry) {
+        return new MetricsRetryListener(meterRegistry);
+    }
+}
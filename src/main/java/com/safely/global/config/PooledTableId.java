@@ -0,0 +1,20 @@
+package com.safely.global.config;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// id_sequences 테이블에서 ID를 블록 단위로 미리 할당받음 (pooled-lo).
+// IDENTITY는 INSERT 시점에 바로 실행되어 JDBC 배치가 꺼지므로, 여러 행을 한 번에 INSERT하는 엔티티에 사용함
+@IdGeneratorType(PooledTableIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledTableId {
+    // id_sequences.sequence_name 값 (보통 테이블 이름)
+    String value();
+
+    int allocationSize() default 50;
+}
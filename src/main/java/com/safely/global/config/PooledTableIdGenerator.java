@@ -0,0 +1,121 @@
+package com.safely.global.config;
+
+import org.hibernate.HibernateException;
+import org.hibernate.MappingException;
+import org.hibernate.boot.model.relational.QualifiedName;
+import org.hibernate.boot.model.relational.SqlStringGenerationContext;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.jdbc.env.spi.JdbcEnvironment;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.TableGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+
+// 하이버네이트 TableGenerator와 같은 테이블/SQL/pooled-lo 방식으로 ID 블록을 받아오되,
+// 블록을 받아오는 커넥션은 메인 풀이 아니라 IdAllocationPool에서 가져옴 (이유는 IdAllocationPool 참고)
+public class PooledTableIdGenerator extends TableGenerator {
+    private final PooledTableId config;
+    private QualifiedName tableName;
+    private IdAllocationPool pool;
+    private String selectQuery;
+    private String insertQuery;
+    private String updateQuery;
+
+    public PooledTableIdGenerator(PooledTableId config) {
+        this.config = config;
+    }
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        params.setProperty(TABLE_PARAM, "id_sequences");
+        params.setProperty(SEGMENT_COLUMN_PARAM, "sequence_name");
+        params.setProperty(VALUE_COLUMN_PARAM, "next_val");
+        params.setProperty(SEGMENT_VALUE_PARAM, config.value());
+        params.setProperty(INCREMENT_PARAM, String.valueOf(config.allocationSize()));
+        params.setProperty(OPT_PARAM, "pooled-lo");
+        super.configure(type, params, serviceRegistry);
+
+        // 스프링 없이 하이버네이트만 쓰는 경우(스키마 도구 등)에는 기본 TableGenerator처럼 동작함
+        Object setting = serviceRegistry.requireService(ConfigurationService.class).getSettings().get(IdAllocationPool.SETTING);
+        this.pool = setting instanceof IdAllocationPool idAllocationPool ? idAllocationPool : null;
+    }
+
+    @Override
+    protected QualifiedName determineGeneratorTableName(Properties params, JdbcEnvironment jdbcEnvironment,
+                                                        ServiceRegistry serviceRegistry) {
+        tableName = super.determineGeneratorTableName(params, jdbcEnvironment, serviceRegistry);
+        return tableName;
+    }
+
+    @Override
+    public void initialize(SqlStringGenerationContext context) {
+        super.initialize(context);
+        String table = context.format(tableName);
+        selectQuery = buildSelectQuery(table, context);
+        insertQuery = buildInsertQuery(table, context);
+        updateQuery = buildUpdateQuery(table, context);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        if (pool == null) {
+            return super.generate(session, object);
+        }
+        return getOptimizer().generate(new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                try {
+                    return pool.execute(PooledTableIdGenerator.this::nextValue);
+                } catch (SQLException e) {
+                    throw new HibernateException("ID 블록 할당 실패: " + getSegmentValue(), e);
+                }
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return session.getTenantIdentifier();
+            }
+        });
+    }
+
+    // TableGenerator와 같은 순서: 행을 잠그고 읽음 -> 없으면 초기값 INSERT -> 읽은 값일 때만 다음 블록 시작값으로 UPDATE
+    private IntegralDataTypeHolder nextValue(Connection connection) throws SQLException {
+        IntegralDataTypeHolder value = IdentifierGeneratorHelper.getIntegralDataTypeHolder(getIdentifierType().getReturnedClass());
+        int updated;
+        do {
+            try (PreparedStatement select = connection.prepareStatement(selectQuery)) {
+                select.setString(1, getSegmentValue());
+                try (ResultSet resultSet = select.executeQuery()) {
+                    if (resultSet.next()) {
+                        value.initialize(resultSet, 1L);
+                    } else {
+                        value.initialize(getInitialValue());
+                        try (PreparedStatement insert = connection.prepareStatement(insertQuery)) {
+                            insert.setString(1, getSegmentValue());
+                            value.bind(insert, 2);
+                            insert.executeUpdate();
+                        }
+                    }
+                }
+            }
+
+            IntegralDataTypeHolder next = value.copy().add(getIncrementSize());
+            try (PreparedStatement update = connection.prepareStatement(updateQuery)) {
+                next.bind(update, 1);
+                value.bind(update, 2);
+                update.setString(3, getSegmentValue());
+                updated = update.executeUpdate();
+            }
+        } while (updated == 0);
+        return value;
+    }
+}
@@ -1,14 +1,20 @@
 package com.safely.global.config;
 
+import com.safely.global.security.jwt.AccessTokenBlacklist;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 public class RedisConfig {
     @Value("${spring.data.redis.host}")
@@ -39,4 +45,24 @@ public class RedisConfig {
 
         return template;
     }
+
+    // 다른 서버에서 로그아웃된 토큰 ID를 받아서 로컬 블랙리스트 필터에 추가
+    @Bean
+    @ConditionalOnProperty(name = "jwt.blacklist.pubsub-enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            AccessTokenBlacklist accessTokenBlacklist
+    ) {
+        RedisMessageListenerContainer container =
+                new RedisMessageListenerContainer();
+
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> accessTokenBlacklist.markRevoked(
+                        new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(AccessTokenBlacklist.CHANNEL)
+        );
+
+        return container;
+    }
 }
\ No newline at end of file
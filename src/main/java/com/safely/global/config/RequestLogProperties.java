@@ -0,0 +1,18 @@
+package com.safely.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "request-log")
+public class RequestLogProperties {
+    // 일반 요청 중 INFO 로그를 남길 비율 (0.0 ~ 1.0). 지연 시간은 샘플링과 관계없이 모두 메트릭으로 기록됨
+    private double sampleRate = 0.01;
+
+    // 이 시간(ms)을 넘은 요청은 항상 파라미터와 함께 WARN 로그를 남김
+    private long slowThresholdMs = 1000;
+}
@@ -0,0 +1,29 @@
+package com.safely.global.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 SQL을 준비할 때마다 호출되어 현재 스레드의 요청에서 실행된 SQL 수를 셈.
+// 배치 INSERT/UPDATE는 같은 문장을 한 번 준비하므로 한 번으로 셈 (DB 왕복 수에 가까움)
+public class SqlStatementCounter implements StatementInspector {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    // 집계를 끝내고 지금까지 센 수를 반환
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
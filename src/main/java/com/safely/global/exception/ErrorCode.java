@@ -14,6 +14,7 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "C004", "서버 내부 오류가 발생했습니다."),
     INVALID_TYPE_VALUE(HttpStatus.BAD_REQUEST, "C005", "입력 값의 타입이 올바르지 않습니다."),
     HANDLE_ACCESS_DENIED(HttpStatus.FORBIDDEN, "C006", "접근 권한이 없습니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "C007", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Auth (인증/회원)
     EMAIL_DUPLICATION(HttpStatus.CONFLICT, "A001", "이미 존재하는 이메일입니다."),
@@ -32,12 +33,16 @@ public enum ErrorCode {
 
     // Expense & Settlement (지출 & 정산)
     EXPENSE_NOT_FOUND(HttpStatus.NOT_FOUND, "E001", "존재하지 않는 지출 내역입니다."),
+    EXPENSE_EDIT_CONFLICT(HttpStatus.CONFLICT, "E002", "다른 사용자가 같은 항목을 먼저 수정했습니다. 새로고침 후 다시 시도해주세요."),
+    INVALID_EXPENSE_SPLIT(HttpStatus.BAD_REQUEST, "E003", "분배 정보가 올바르지 않습니다. 참여자와 금액 합계를 확인해주세요."),
     SETTLEMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "S001", "정산 내역을 찾을 수 없습니다."),
     CONCURRENCY_CONFLICT(HttpStatus.CONFLICT, "S002", "다른 사용자가 데이터를 수정 중입니다. 잠시 후 다시 시도해주세요."),
 
     // File (파일 업로드)
     FILE_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "F001", "파일 업로드에 실패했습니다."),
-    INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "F002", "지원하지 않는 파일 형식입니다.");
+    INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST, "F002", "지원하지 않는 파일 형식입니다."),
+    IMAGE_TOO_LARGE(HttpStatus.BAD_REQUEST, "F003", "이미지 해상도가 너무 큽니다."),
+    INVALID_UPLOADED_FILE(HttpStatus.BAD_REQUEST, "F004", "업로드된 파일이 없거나 올바른 이미지가 아닙니다.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,10 @@
+package com.safely.global.exception.common;
+
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+
+public class ServiceBusyException extends BusinessException {
+    public ServiceBusyException() {
+        super(ErrorCode.SERVICE_BUSY);
+    }
+}
@@ -0,0 +1,10 @@
+package com.safely.global.exception.expense;
+
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+
+public class ExpenseEditConflictException extends BusinessException {
+    public ExpenseEditConflictException() {
+        super(ErrorCode.EXPENSE_EDIT_CONFLICT);
+    }
+}
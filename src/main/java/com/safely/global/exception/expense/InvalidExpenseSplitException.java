@@ -0,0 +1,10 @@
+package com.safely.global.exception.expense;
+
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+
+public class InvalidExpenseSplitException extends BusinessException {
+    public InvalidExpenseSplitException() {
+        super(ErrorCode.INVALID_EXPENSE_SPLIT);
+    }
+}
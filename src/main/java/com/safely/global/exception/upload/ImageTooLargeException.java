@@ -0,0 +1,10 @@
+package com.safely.global.exception.upload;
+
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+
+public class ImageTooLargeException extends BusinessException {
+    public ImageTooLargeException() {
+        super(ErrorCode.IMAGE_TOO_LARGE);
+    }
+}
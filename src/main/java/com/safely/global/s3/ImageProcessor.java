@@ -0,0 +1,133 @@
+package com.safely.global.s3;
+
+import com.safely.global.exception.upload.ImageTooLargeException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+// 업로드된 이미지를 한 번만 디코딩해서 ImageVariant 크기의 JPEG 변환본을 만듦.
+// 헤더에서 해상도를 먼저 읽어 픽셀 수 제한을 넘으면 디코딩하지 않고, 디코딩할 때도 서브샘플링으로
+// 필요한 크기에 가깝게만 읽어서 원본 해상도와 관계없이 메모리 사용량이 일정하게 유지됨.
+@Slf4j
+@Component
+public class ImageProcessor {
+    private static final int MAX_CONCURRENT_DECODES = 2;
+    private static final float JPEG_QUALITY = 0.85f;
+
+    private final long maxPixels;
+    private final Semaphore decodePermits = new Semaphore(MAX_CONCURRENT_DECODES);
+    private final int largestVariant = Arrays.stream(ImageVariant.values()).mapToInt(ImageVariant::size).max().orElseThrow();
+
+    public ImageProcessor(@Value("${storage.image.max-pixels:40000000}") long maxPixels) {
+        this.maxPixels = maxPixels;
+    }
+
+    public record Variant(ImageVariant type, byte[] data) {}
+
+    // 디코딩할 수 없는 형식(ImageIO가 지원하지 않는 WebP 등)이면 빈 목록을 반환함
+    public List<Variant> createVariants(Path source) throws IOException {
+        try {
+            decodePermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("이미지 변환 대기 중 인터럽트");
+        }
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                log.info("[*] 변환할 수 없는 이미지 형식, 원본만 사용: Path={}", source.getFileName());
+                return List.of();
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                BufferedImage decoded = decode(reader);
+
+                List<Variant> variants = new ArrayList<>();
+                for (ImageVariant type : ImageVariant.values()) {
+                    variants.add(new Variant(type, encodeJpeg(resize(decoded, type.size()))));
+                }
+                return variants;
+            } finally {
+                reader.dispose();
+            }
+        } finally {
+            decodePermits.release();
+        }
+    }
+
+    private BufferedImage decode(ImageReader reader) throws IOException {
+        int width = reader.getWidth(0);
+        int height = reader.getHeight(0);
+        if ((long) width * height > maxPixels) {
+            log.warn("[!] 이미지 해상도 제한 초과: {}x{}", width, height);
+            throw new ImageTooLargeException();
+        }
+
+        // 긴 변이 가장 큰 변환본 크기 이상으로 남는 만큼만 건너뛰면서 읽음
+        int subsampling = Math.max(1, Math.max(width, height) / largestVariant);
+        ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+        return reader.read(0, param);
+    }
+
+    // 긴 변을 size에 맞추고 비율 유지. 원본이 더 작으면 확대하지 않음. 투명 배경은 흰색으로 채움
+    private BufferedImage resize(BufferedImage source, int size) {
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+}
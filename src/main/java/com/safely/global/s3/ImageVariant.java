@@ -0,0 +1,25 @@
+package com.safely.global.s3;
+
+// 원본 이미지에서 만드는 고정 크기 JPEG 변환본. 긴 변 기준으로 줄이고 비율은 유지함.
+// 키는 원본 키에서 정해지므로 (profile/abc-me.png -> profile/abc-me_w128.jpg) DB에 따로 저장하지 않아도 찾거나 지울 수 있음.
+public enum ImageVariant {
+    THUMBNAIL(128), // 그룹 상세/멤버 목록
+    MEDIUM(512);    // 프로필 상세
+
+    private final int size;
+
+    ImageVariant(int size) {
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String keyFor(String originalKey) {
+        int slash = originalKey.lastIndexOf('/');
+        int dot = originalKey.lastIndexOf('.');
+        String base = dot > slash ? originalKey.substring(0, dot) : originalKey;
+        return base + "_w" + size + ".jpg";
+    }
+}
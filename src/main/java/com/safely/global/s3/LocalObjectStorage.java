@@ -0,0 +1,105 @@
+package com.safely.global.s3;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+
+// S3 대신 로컬 디렉터리에 저장하는 구현체 (AWS 없이 개발/테스트할 때 사용). URL은 file: URI로 반환함.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalObjectStorage implements ObjectStorage {
+    private final Path root;
+    private final String rootUri;
+
+    public LocalObjectStorage(@Value("${storage.local.root}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.rootUri = this.root.toUri().toString();
+        log.info("[*] 로컬 파일 저장소 사용: Root={}", this.root);
+    }
+
+    @Override
+    public String upload(String key, InputStream inputStream) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+            Files.copy(inputStream, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return urlOf(key);
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String keyOf(String url) {
+        if (!url.startsWith(rootUri)) {
+            return null;
+        }
+        // 파일명에 한글/공백이 있으면 URI가 인코딩되어 있으므로 경로로 되돌려서 키를 구함
+        return root.relativize(Path.of(URI.create(url))).toString().replace('\\', '/');
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return resolve(key).toUri().toString();
+    }
+
+    // 로컬 저장소는 서명 없이 대상 파일 경로(file: URI)를 그대로 반환함. 테스트에서는 이 경로에 직접 써서 업로드를 흉내냄
+    @Override
+    public String presignPut(String key, String contentType, Duration expiresIn) {
+        Path target = resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return target.toUri().toString();
+    }
+
+    @Override
+    public long sizeOf(String key) {
+        try {
+            Path target = resolve(key);
+            return Files.exists(target) ? Files.size(target) : -1L;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public byte[] readHead(String key, int length) {
+        try (InputStream inputStream = Files.newInputStream(resolve(key))) {
+            return inputStream.readNBytes(length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 키에 ../ 등이 섞여서 저장소 밖의 파일을 건드리지 않도록 막음
+    private Path resolve(String key) {
+        Path target = root.resolve(key).normalize();
+        if (!target.startsWith(root)) {
+            throw new IllegalArgumentException("저장소 경로를 벗어난 키: " + key);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,28 @@
+package com.safely.global.s3;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+// 파일 저장소 추상화. 운영은 S3, 오프라인 개발/테스트는 로컬 디렉터리를 사용함 (storage.type)
+public interface ObjectStorage {
+
+    // 저장 후 클라이언트에 내려줄 URL을 반환함
+    String upload(String key, InputStream inputStream);
+
+    void delete(String key);
+
+    // upload()가 반환한 URL에서 키를 꺼냄. 이 저장소의 URL이 아니면 null
+    String keyOf(String url);
+
+    // upload()가 반환하는 것과 같은 형식의 URL
+    String urlOf(String key);
+
+    // 클라이언트가 서버를 거치지 않고 직접 올릴 수 있는 서명된 PUT URL
+    String presignPut(String key, String contentType, Duration expiresIn);
+
+    // 저장된 오브젝트 크기(byte). 없으면 -1
+    long sizeOf(String key);
+
+    // 파일 형식 확인용으로 앞부분만 읽음
+    byte[] readHead(String key, int length);
+}
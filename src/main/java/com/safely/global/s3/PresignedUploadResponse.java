@@ -0,0 +1,12 @@
+package com.safely.global.s3;
+
+import java.time.LocalDateTime;
+
+// 클라이언트는 uploadUrl로 Content-Type 헤더를 contentType과 같게 해서 PUT 한 뒤, key로 완료 요청을 보냄
+public record PresignedUploadResponse(
+        String key,
+        String uploadUrl,
+        String method,
+        String contentType,
+        LocalDateTime expiresAt
+) {}
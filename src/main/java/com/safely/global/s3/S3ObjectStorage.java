@@ -0,0 +1,86 @@
+package com.safely.global.s3;
+
+import io.awspring.cloud.s3.S3Template;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3ObjectStorage implements ObjectStorage {
+    private static final String URL_KEY_DELIMITER = ".com/";
+
+    private final S3Template s3Template;
+    private final S3Client s3Client;
+
+    @Value("${spring.cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Override
+    public String upload(String key, InputStream inputStream) {
+        try {
+            return s3Template.upload(bucketName, key, inputStream).getURL().toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        s3Template.deleteObject(bucketName, key);
+    }
+
+    @Override
+    public String keyOf(String url) {
+        int index = url.indexOf(URL_KEY_DELIMITER);
+        return index == -1 ? null : url.substring(index + URL_KEY_DELIMITER.length());
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return s3Client.utilities().getUrl(builder -> builder.bucket(bucketName).key(key)).toString();
+    }
+
+    // Content-Type을 서명에 포함하므로 클라이언트는 같은 Content-Type 헤더로 PUT 해야 함
+    @Override
+    public String presignPut(String key, String contentType, Duration expiresIn) {
+        return s3Template.createSignedPutURL(bucketName, key, expiresIn, null, contentType).toString();
+    }
+
+    @Override
+    public long sizeOf(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder().bucket(bucketName).key(key).build()).contentLength();
+        } catch (NoSuchKeyException e) {
+            return -1L;
+        }
+    }
+
+    // Range 요청으로 앞부분만 받아옴 (이미지 전체를 서버로 내려받지 않음)
+    @Override
+    public byte[] readHead(String key, int length) {
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .range("bytes=0-" + (length - 1))
+                .build();
+        try (ResponseInputStream<GetObjectResponse> inputStream = s3Client.getObject(request)) {
+            return inputStream.readNBytes(length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -4,15 +4,19 @@ import com.safely.global.exception.BusinessException;
 import com.safely.global.exception.ErrorCode;
 import com.safely.global.exception.upload.FileUploadException;
 import com.safely.global.exception.upload.InvalidFileExtensionException;
-import io.awspring.cloud.s3.S3Template;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Set;
 import java.util.UUID;
 
@@ -20,30 +24,112 @@ import java.util.UUID;
 @Service
 @RequiredArgsConstructor
 public class S3Service {
-    private final S3Template s3Template;
-
-    @Value("${spring.cloud.aws.s3.bucket}")
-    private String bucketName;
+    private final ObjectStorage objectStorage;
+    private final MeterRegistry meterRegistry;
 
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(".jpg", ".jpeg", ".png", ".gif", ".webp");
+    private static final long MAX_UPLOAD_BYTES = 10L * 1024 * 1024; // spring.servlet.multipart.max-file-size와 동일
+    private static final Duration PRESIGN_TTL = Duration.ofMinutes(5);
+    private static final int SIGNATURE_LENGTH = 12;
 
     public String upload(MultipartFile file, String dirName) {
+        String key = createKey(file, dirName);
+
+        // S3 업로드 및 URL 반환
+        try (InputStream inputStream = file.getInputStream()) {
+            return store(key, inputStream);
+        } catch (IOException | UncheckedIOException e) {
+            log.error("[-] S3 업로드 중 치명적 오류 발생. Key={}, Cause={}", key, e.getMessage());
+            throw new FileUploadException();
+        }
+    }
+
+    // 파일을 검사하고 저장할 키를 만듦 (업로드는 하지 않음)
+    public String createKey(MultipartFile file, String dirName) {
         if (file.isEmpty()) {
             log.warn("[!] 파일 업로드 실패: 파일이 비어있음.");
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
+        return newKey(dirName, file.getOriginalFilename());
+    }
+
+    // 클라이언트가 S3에 직접 올릴 수 있는 서명된 URL 발급. 이미지 바이트는 서버를 거치지 않음
+    public PresignedUploadResponse createPresignedUpload(String dirName, String filename, String contentType, long size) {
+        if (size <= 0 || size > MAX_UPLOAD_BYTES) {
+            log.warn("[!] 업로드 URL 발급 거부: 허용되지 않는 크기. Size={}", size);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        String key = newKey(dirName, filename);
+        String uploadUrl = objectStorage.presignPut(key, contentType, PRESIGN_TTL);
+        log.info("[*] 업로드 URL 발급: Key={}", key);
+        return new PresignedUploadResponse(key, uploadUrl, "PUT", contentType, LocalDateTime.now().plus(PRESIGN_TTL));
+    }
+
+    // 클라이언트가 직접 올린 오브젝트를 검사하고 URL을 반환함. 올바르지 않으면 오브젝트를 지우고 예외.
+    // 서명된 PUT URL로는 크기를 제한할 수 없으므로 여기서 크기/확장자/실제 파일 형식을 모두 확인함
+    public String verifyUploaded(String key) {
+        String extension = getExtension(key).toLowerCase();
+        long size = objectStorage.sizeOf(key);
+        if (size < 0) {
+            log.warn("[!] 업로드 완료 확인 실패: 오브젝트 없음. Key={}", key);
+            throw new BusinessException(ErrorCode.INVALID_UPLOADED_FILE);
+        }
+
+        if (!ALLOWED_EXTENSIONS.contains(extension) || size == 0 || size > MAX_UPLOAD_BYTES
+                || !matchesSignature(extension, objectStorage.readHead(key, SIGNATURE_LENGTH))) {
+            log.warn("[!] 업로드 완료 확인 실패: 올바르지 않은 파일. Key={}, Size={}", key, size);
+            deleteObject(objectStorage.urlOf(key));
+            throw new BusinessException(ErrorCode.INVALID_UPLOADED_FILE);
+        }
+        return objectStorage.urlOf(key);
+    }
+
+    public String store(String key, InputStream inputStream) {
+        CountingInputStream counting = new CountingInputStream(inputStream);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "failure";
+        try {
+            String url = objectStorage.upload(key, counting);
+            result = "success";
+            log.info("[+] S3 파일 업로드 성공: Key={}", key);
+            return url;
+        } finally {
+            sample.stop(meterRegistry.timer("storage.upload", "result", result));
+            meterRegistry.summary("storage.upload.bytes", "result", result).record(counting.count);
+        }
+    }
+
+    // 실패해도 예외를 던지지 않음
+    public void deleteObject(String imageUrl) {
+        try {
+            delete(imageUrl);
+        } catch (Exception e) {
+            log.error("[-] S3 이미지 삭제 실패. URL={}, Cause={}", imageUrl, e.getMessage());
+        }
+    }
+
+    // 실패 시 예외를 그대로 던짐 (재시도하는 쪽에서 사용)
+    public void delete(String imageUrl) {
+        if (imageUrl == null || imageUrl.isBlank()) return;
+
+        String key = objectStorage.keyOf(imageUrl);
+        if (key != null) {
+            meterRegistry.timer("storage.delete").record(() -> objectStorage.delete(key));
+            // 변환본은 키가 원본 키에서 정해지므로 같이 지움 (없는 키는 무시됨)
+            for (ImageVariant variant : ImageVariant.values()) {
+                objectStorage.delete(variant.keyFor(key));
+            }
+            log.info("[-] S3 이미지 삭제 성공: Key={}", key);
+        }
+    }
 
+    private String newKey(String dirName, String originalFilename) {
         // 파일명 가져오기 & Null 안전 처리
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.isBlank()) {
             originalFilename = "unknown-file"; // 파일명이 없으면 기본값 부여
         }
 
-        // 중복 방지를 위한 UUID 생성
-        String uuid = UUID.randomUUID().toString();
-
-        String key = dirName + "/" + uuid + "-" + originalFilename;
-
         // 확장자 검사 로직 (보안을 위해 필요함.)
         String extension = getExtension(originalFilename).toLowerCase();
         if (!ALLOWED_EXTENSIONS.contains(extension)) {
@@ -51,30 +137,66 @@ public class S3Service {
             throw new InvalidFileExtensionException();
         }
 
-        // S3 업로드 및 URL 반환
-        try (InputStream inputStream = file.getInputStream()) {
-            var resource = s3Template.upload(bucketName, key, inputStream);
-            log.info("[+] S3 파일 업로드 성공: Key={}", key);
-            return resource.getURL().toString();
-        } catch (IOException e) {
-            log.error("[-] S3 업로드 중 치명적 오류 발생. Key={}, Cause={}", key, e.getMessage());
-            throw new FileUploadException();
+        // 중복 방지를 위한 UUID 생성
+        String uuid = UUID.randomUUID().toString();
+
+        return dirName + "/" + uuid + "-" + originalFilename;
+    }
+
+    // 확장자와 실제 파일 앞부분(매직 넘버)이 맞는지 확인
+    private boolean matchesSignature(String extension, byte[] head) {
+        return switch (extension) {
+            case ".jpg", ".jpeg" -> startsWith(head, 0, 0xFF, 0xD8, 0xFF);
+            case ".png" -> startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A);
+            case ".gif" -> startsWith(head, 0, 'G', 'I', 'F', '8');
+            case ".webp" -> startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P');
+            default -> false;
+        };
+    }
+
+    private boolean startsWith(byte[] head, int offset, int... expected) {
+        if (head.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((head[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
         }
+        return true;
     }
 
-    public void deleteObject(String imageUrl) {
-        if (imageUrl == null || imageUrl.isBlank()) return;
+    // 스트림 길이를 미리 알 수 없으므로 실제로 읽힌 바이트 수를 셈 (업로드 크기 메트릭용)
+    private static class CountingInputStream extends FilterInputStream {
+        private long count;
 
-        try {
-            String splitStr = ".com/";
-            int index = imageUrl.indexOf(splitStr);
-            if (index != -1) {
-                String key = imageUrl.substring(index + splitStr.length());
-                s3Template.deleteObject(bucketName, key);
-                log.info("[-] S3 이미지 삭제 성공: Key={}", key);
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
             }
-        } catch (Exception e) {
-            log.error("[-] S3 이미지 삭제 실패. URL={}, Cause={}", imageUrl, e.getMessage());
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
         }
     }
 
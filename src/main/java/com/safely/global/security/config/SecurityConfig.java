@@ -3,6 +3,9 @@ package com.safely.global.security.config;
 import com.safely.global.security.filter.JwtAuthenticationFilter;
 import com.safely.global.security.handler.CustomAccessDeniedHandler;
 import com.safely.global.security.handler.CustomAuthenticationEntryPoint;
+import com.safely.global.security.password.BoundedPasswordEncoder;
+import com.safely.global.security.password.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,6 +16,7 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -26,6 +30,8 @@ public class SecurityConfig {
     private final String[] authUrls = {
             "/",
             "/health",
+            "/actuator/health",
+            "/actuator/prometheus", // 관리 포트(management.server.port)에서만 열리며, 그 포트는 외부에 공개하지 않음
             "/api/auth/**",
             "/h2-console/**",
             "/v3/api-docs/**",
@@ -40,9 +46,17 @@ public class SecurityConfig {
         return configuration.getAuthenticationManager();
     }
 
+    // 빈 이름을 passwordEncoder로 두지 않음 (테스트에서 같은 이름의 빈을 따로 등록함)
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder boundedPasswordEncoder(
+            PasswordHashingProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(properties.getBcryptStrength()),
+                properties,
+                meterRegistry
+        );
     }
 
     @Bean
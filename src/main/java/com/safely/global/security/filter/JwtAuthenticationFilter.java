@@ -1,12 +1,13 @@
 package com.safely.global.security.filter;
 
+import com.safely.global.security.jwt.AccessTokenBlacklist;
 import com.safely.global.security.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -15,12 +16,13 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtProvider jwtProvider;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final AccessTokenBlacklist accessTokenBlacklist;
     private final AntPathMatcher pathMatcher = new AntPathMatcher();
 
     @Override
@@ -31,12 +33,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request);
 
-        if (StringUtils.hasText(token) && jwtProvider.validateToken(token)) {
-            String isLogout = redisTemplate.opsForValue()
-                    .get("blacklist:access:" + token);
-            if (isLogout == null) {
+        if (StringUtils.hasText(token)) {
+            Optional<Claims> claims = jwtProvider.parseOnce(token); // 서명 검증은 여기서 한 번만
+            // 리프레시 토큰은 인증에 쓸 수 없음. 로컬 필터에 없는 토큰은 Redis 조회 없이 통과
+            if (claims.isPresent()
+                    && jwtProvider.isAccessToken(claims.get())
+                    && !accessTokenBlacklist.isRevoked(claims.get(), token)) {
                 Authentication authentication =
-                        jwtProvider.getAuthentication(token);
+                        jwtProvider.getAuthentication(claims.get());
                 SecurityContextHolder.getContext()
                         .setAuthentication(authentication);
             }
@@ -45,6 +49,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // 메트릭 수집(스크레이프) 요청은 토큰 검사를 하지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return pathMatcher.match("/actuator/**", request.getRequestURI());
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearer = request.getHeader("Authorization");
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
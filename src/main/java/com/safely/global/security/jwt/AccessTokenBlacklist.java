@@ -0,0 +1,134 @@
+package com.safely.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 로그아웃된 access 토큰 블랙리스트.
+// Redis(blacklist:access:{jti})가 원본이고, 서버마다 로컬 블룸 필터를 두어서 필터에 없는 토큰은 Redis 조회 없이 통과시킴.
+// 필터는 로그아웃 시 Pub/Sub 메시지로 채우고, 놓친 메시지와 만료된 항목은 주기적인 전체 동기화로 맞춤.
+@Slf4j
+@Component
+public class AccessTokenBlacklist {
+    public static final String CHANNEL = "auth:revoked";
+    private static final String KEY_PREFIX = "blacklist:access:";
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long expectedRevocations;
+    private final Counter filteredCounter;
+    private final Counter redisCounter;
+    private final Timer redisLookupTimer;
+
+    private volatile BloomFilter filter;
+    // 첫 동기화 전에는 필터가 비어있으므로 모든 토큰을 Redis에서 확인함
+    private volatile boolean synced = false;
+    // 동기화(SCAN) 도중 들어온 jti. 새 필터로 교체할 때 누락되지 않게 옮겨 담음
+    private final AtomicReference<Set<String>> pendingDuringSync = new AtomicReference<>();
+
+    public AccessTokenBlacklist(RedisTemplate<String, String> redisTemplate, JwtProperties jwtProperties,
+                                MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.expectedRevocations = jwtProperties.getBlacklist().getExpectedRevocations();
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+        this.filteredCounter = meterRegistry.counter("auth.blacklist.lookup", "result", "filtered");
+        this.redisCounter = meterRegistry.counter("auth.blacklist.lookup", "result", "redis");
+        this.redisLookupTimer = meterRegistry.timer("auth.blacklist.redis");
+    }
+
+    public void revoke(Claims claims, String token, long remainMs) {
+        if (remainMs <= 0) {
+            return; // 이미 만료된 토큰
+        }
+
+        String jti = claims.getId();
+        if (jti == null) {
+            // jti 도입 이전에 발급된 토큰은 기존처럼 토큰 전체를 키로 사용
+            redisTemplate.opsForValue().set(KEY_PREFIX + token, "logout", remainMs, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        redisTemplate.opsForValue().set(KEY_PREFIX + jti, "logout", remainMs, TimeUnit.MILLISECONDS);
+        markRevoked(jti);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, jti);
+        } catch (RuntimeException e) {
+            log.warn("[!] 로그아웃 토큰 전파 실패, 다음 동기화 때 반영: Error={}", e.getMessage());
+        }
+    }
+
+    public boolean isRevoked(Claims claims, String token) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return existsInRedis(KEY_PREFIX + token);
+        }
+
+        if (synced && !filter.mightContain(jti)) {
+            filteredCounter.increment();
+            return false;
+        }
+        redisCounter.increment();
+        return existsInRedis(KEY_PREFIX + jti);
+    }
+
+    // 인증 필터에서 요청마다 기다리는 Redis 왕복 시간
+    private boolean existsInRedis(String key) {
+        long start = System.nanoTime();
+        try {
+            return redisTemplate.opsForValue().get(key) != null;
+        } finally {
+            redisLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 이 서버의 로그아웃 또는 다른 서버의 Pub/Sub 메시지로 호출됨
+    public void markRevoked(String jti) {
+        Set<String> pending = pendingDuringSync.get();
+        if (pending != null) {
+            pending.add(jti);
+        }
+        filter.put(jti);
+    }
+
+    // Redis의 블랙리스트 키로 필터를 새로 만들어 교체함. 만료된 jti는 이때 필터에서 빠짐.
+    @Scheduled(fixedDelayString = "${jwt.blacklist.sync-interval-ms:30000}")
+    public void sync() {
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        pendingDuringSync.set(pending);
+        try {
+            BloomFilter rebuilt = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+            int count = 0;
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> keys = redisTemplate.scan(options)) {
+                while (keys.hasNext()) {
+                    String jti = keys.next().substring(KEY_PREFIX.length());
+                    if (jti.indexOf('.') < 0) { // 토큰 전체를 키로 쓴 이전 항목은 제외
+                        rebuilt.put(jti);
+                        count++;
+                    }
+                }
+            }
+            pending.forEach(rebuilt::put);
+            filter = rebuilt;
+            pending.forEach(rebuilt::put); // 교체 직전에 들어온 항목
+            synced = true;
+            log.debug("[*] 로그아웃 토큰 필터 동기화 완료: Count={}", count);
+        } catch (RuntimeException e) {
+            log.warn("[!] 로그아웃 토큰 필터 동기화 실패, 기존 필터 유지: Error={}", e.getMessage());
+        } finally {
+            pendingDuringSync.set(null);
+        }
+    }
+}
@@ -13,4 +13,29 @@ public class JwtProperties {
     private String secretKey;
     private long accessTokenExpireMs;
     private long refreshTokenExpireMs;
+
+    // true면 DB/캐시 조회 없이 토큰의 username/role 클레임만으로 인증 객체를 만듦 (회원 정보 변경이 토큰 만료 전까지 반영되지 않음)
+    private boolean statelessPrincipal = false;
+    private PrincipalCache principalCache = new PrincipalCache();
+
+    // 최근 검증한 토큰(SHA-256 다이제스트) -> 클레임 캐시 크기. 0이면 매번 서명을 검증함.
+    private long verifiedTokenCacheSize = 10_000;
+
+    private Blacklist blacklist = new Blacklist();
+
+    @Getter
+    @Setter
+    public static class PrincipalCache {
+        private long ttlMs = 30_000;  // 다른 서버에서 수정/탈퇴한 회원 정보가 최대 이 시간만큼 늦게 반영됨
+        private long maxSize = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Blacklist {
+        private boolean pubsubEnabled = true;
+        // Pub/Sub 메시지를 놓친 경우 다른 서버의 로그아웃이 최대 이 시간만큼 늦게 반영됨
+        private long syncIntervalMs = 30_000;
+        private long expectedRevocations = 100_000; // 오탐률 1% 기준 약 120KB
+    }
 }
\ No newline at end of file
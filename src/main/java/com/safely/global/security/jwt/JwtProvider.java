@@ -1,27 +1,46 @@
 package com.safely.global.security.jwt;
 
-import com.safely.domain.auth.service.CustomUserDetailsService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.safely.domain.auth.entity.CustomUserDetails;
+import com.safely.domain.auth.service.PrincipalCache;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
+    // 캐시된 클레임은 토큰 만료 시각 또는 이 시간 중 빠른 쪽에 제거됨
+    private static final long MAX_VERIFIED_CACHE_MS = TimeUnit.MINUTES.toMillis(10);
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final String TOKEN_TYPE_CLAIM = "typ";
+    private static final String ACCESS_TOKEN_TYPE = "access";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     private final JwtProperties jwtProperties;
-    private final CustomUserDetailsService userDetailsService;
+    private final PrincipalCache principalCache;
     private SecretKey key;
+    private JwtParser parser; // 스레드 안전하므로 한 번만 만들어서 재사용
+    private Cache<String, Claims> verifiedTokens;
 
     @PostConstruct
     public void init() {
@@ -29,6 +48,29 @@ public class JwtProvider {
                 jwtProperties.getSecretKey()
                         .getBytes(StandardCharsets.UTF_8)
         );
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheSize())
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+                        long remainMs = getRemainExpiration(claims);
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, Math.min(remainMs, MAX_VERIFIED_CACHE_MS)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String generateAccessToken(Long userId, String username, String role) {
@@ -36,7 +78,9 @@ public class JwtProvider {
         Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpireMs());
 
         return Jwts.builder()
+                .id(newTokenId())
                 .subject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, ACCESS_TOKEN_TYPE)
                 .claim("username", username)
                 .claim("role", role)
                 .issuedAt(now)
@@ -51,30 +95,49 @@ public class JwtProvider {
 
         return Jwts.builder()
                 .subject(String.valueOf(userId))
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // 토큰 서명/만료를 한 번만 검증하고 클레임을 반환함. 유효하지 않으면 empty.
+    // 한 요청 안에서는 반환된 클레임을 재사용하고, 같은 토큰이 다시 오면 캐시된 클레임을 반환해서 서명 검증을 건너뜀.
+    public Optional<Claims> parseOnce(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        String digest = digest(token);
+        Claims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            verifiedTokens.put(digest, claims);
+            return Optional.of(claims);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        String username = claims.get("username", String.class);
+    // API 인증에는 액세스 토큰만 사용. typ 클레임 도입 전에 발급된 토큰은 username 클레임 유무로 구분함
+    public boolean isAccessToken(Claims claims) {
+        Object type = claims.get(TOKEN_TYPE_CLAIM);
+        return type == null
+                ? claims.get("username") != null
+                : ACCESS_TOKEN_TYPE.equals(type);
+    }
+
+    public Authentication getAuthentication(Claims claims) {
+        Long memberId = Long.valueOf(claims.getSubject());
 
-        UserDetails userDetails =
-                userDetailsService.loadUserByUsername(username);
+        CustomUserDetails userDetails = jwtProperties.isStatelessPrincipal()
+                ? CustomUserDetails.fromClaims(memberId, claims.get("username", String.class), claims.get("role", String.class))
+                : principalCache.get(memberId);
 
         return new UsernamePasswordAuthenticationToken(
                 userDetails,
@@ -83,20 +146,8 @@ public class JwtProvider {
         );
     }
 
-    public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    public String getSubject(String token) {
-        return getClaims(token).getSubject();
-    }
-
-    public long getRemainExpiration(String token) {
-        Date expiration = getClaims(token).getExpiration();
+    public long getRemainExpiration(Claims claims) {
+        Date expiration = claims.getExpiration();
         long now = System.currentTimeMillis();
         return expiration.getTime() - now;
     }
@@ -104,4 +155,20 @@ public class JwtProvider {
     public long getRefreshTokenExpireMs() {
         return jwtProperties.getRefreshTokenExpireMs();
     }
-}
\ No newline at end of file
+
+    // 블랙리스트 키로 쓰는 짧은 토큰 ID (96비트 랜덤, 16자)
+    private String newTokenId() {
+        byte[] bytes = new byte[12];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
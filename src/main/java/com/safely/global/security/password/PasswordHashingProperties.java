@@ -0,0 +1,21 @@
+package com.safely.global.security.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "security.password")
+public class PasswordHashingProperties {
+    // BCrypt cost (4~31). 바꾸면 기존 회원은 다음 로그인 때 새 cost로 다시 해시됨
+    private int bcryptStrength = 10;
+
+    // 동시에 해시를 계산하는 스레드 수. 나머지 CPU는 다른 API 요청이 쓰도록 남겨둠
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    // 대기열이 가득 차면 기다리지 않고 바로 503으로 거절함
+    private int queueCapacity = 64;
+}
@@ -8,7 +8,10 @@ import com.safely.global.exception.auth.EmailDuplicateException;
 import com.safely.global.exception.auth.InvalidTokenException;
 import com.safely.global.exception.auth.RefreshTokenNotFoundException;
 import com.safely.global.exception.common.EntityNotFoundException;
+import com.safely.global.security.jwt.AccessTokenBlacklist;
 import com.safely.global.security.jwt.JwtProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -46,6 +49,8 @@ class AuthServiceUnitTest {
     RedisTemplate<String, String> redisTemplate;
     @Mock
     PasswordEncoder passwordEncoder;
+    @Mock
+    AccessTokenBlacklist accessTokenBlacklist;
 
     // Redis의 opsForValue()를 Mocking 하기 위해 필요
     @Mock
@@ -146,8 +151,7 @@ class AuthServiceUnitTest {
         RefreshTokenRequest request = new RefreshTokenRequest(oldRefreshToken);
 
         // Mocking
-        given(jwtProvider.validateToken(oldRefreshToken)).willReturn(true);
-        given(jwtProvider.getSubject(oldRefreshToken)).willReturn(String.valueOf(userId));
+        given(jwtProvider.parseOnce(oldRefreshToken)).willReturn(Optional.of(claims(userId)));
 
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
         given(valueOperations.get("refresh:" + userId)).willReturn(oldRefreshToken); // Redis에 저장된 값과 일치
@@ -174,7 +178,7 @@ class AuthServiceUnitTest {
     void reIssue_Fail_InvalidToken() {
         // Given
         String invalidToken = "invalid-token";
-        given(jwtProvider.validateToken(invalidToken)).willReturn(false); // 유효성 검증 실패
+        given(jwtProvider.parseOnce(invalidToken)).willReturn(Optional.empty()); // 유효성 검증 실패
 
         // When & Then
         assertThatThrownBy(() -> authService.reIssue(new RefreshTokenRequest(invalidToken)))
@@ -189,8 +193,7 @@ class AuthServiceUnitTest {
         String storedToken = "other-stored-token"; // Redis에는 다른 값이 있음
         Long userId = 1L;
 
-        given(jwtProvider.validateToken(requestToken)).willReturn(true);
-        given(jwtProvider.getSubject(requestToken)).willReturn(String.valueOf(userId));
+        given(jwtProvider.parseOnce(requestToken)).willReturn(Optional.of(claims(userId)));
 
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
         given(valueOperations.get("refresh:" + userId)).willReturn(storedToken); // 불일치
@@ -207,8 +210,7 @@ class AuthServiceUnitTest {
         String token = "valid-token";
         Long userId = 1L;
 
-        given(jwtProvider.validateToken(token)).willReturn(true);
-        given(jwtProvider.getSubject(token)).willReturn(String.valueOf(userId));
+        given(jwtProvider.parseOnce(token)).willReturn(Optional.of(claims(userId)));
 
         given(redisTemplate.opsForValue()).willReturn(valueOperations);
         given(valueOperations.get("refresh:" + userId)).willReturn(token); // 일치
@@ -228,26 +230,23 @@ class AuthServiceUnitTest {
         String accessToken = "valid-access-token";
         Long userId = 1L;
         long remainMs = 5000L;
+        Claims claims = claims(userId);
 
-        given(jwtProvider.validateToken(accessToken)).willReturn(true);
-        given(jwtProvider.getSubject(accessToken)).willReturn(String.valueOf(userId));
-        given(jwtProvider.getRemainExpiration(accessToken)).willReturn(remainMs);
-
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(jwtProvider.parseOnce(accessToken)).willReturn(Optional.of(claims));
+        given(jwtProvider.getRemainExpiration(any(Claims.class))).willReturn(remainMs);
 
         // When
         authService.logout(accessToken);
 
         // Then
         // Access Token 블랙리스트 추가 확인
-        verify(valueOperations).set(
-                eq("blacklist:access:" + accessToken),
-                eq("logout"),
-                eq(remainMs),
-                eq(TimeUnit.MILLISECONDS)
-        );
+        verify(accessTokenBlacklist).revoke(claims, accessToken, remainMs);
 
         // Refresh Token 삭제 확인
         verify(redisTemplate).delete("refresh:" + userId);
     }
-}
\ No newline at end of file
+
+    private Claims claims(Long userId) {
+        return Jwts.claims().subject(String.valueOf(userId)).build();
+    }
+}
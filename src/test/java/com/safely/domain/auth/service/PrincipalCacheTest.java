@@ -0,0 +1,74 @@
+package com.safely.domain.auth.service;
+
+import com.safely.domain.auth.entity.CustomUserDetails;
+import com.safely.domain.member.entity.Member;
+import com.safely.global.security.jwt.JwtProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+    @Mock
+    CustomUserDetailsService userDetailsService;
+
+    PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        principalCache = new PrincipalCache(userDetailsService, new JwtProperties());
+    }
+
+    @Test
+    @DisplayName("인증 주체 캐시: 같은 회원은 한 번만 DB에서 조회한다.")
+    void get_LoadsOnce() {
+        // Given
+        CustomUserDetails user = user(1L, "before");
+        given(userDetailsService.loadUserById(1L)).willReturn(user);
+
+        // When
+        principalCache.get(1L);
+        CustomUserDetails result = principalCache.get(1L);
+
+        // Then
+        assertThat(result).isSameAs(user);
+        verify(userDetailsService, times(1)).loadUserById(1L);
+    }
+
+    @Test
+    @DisplayName("인증 주체 캐시: 회원 정보 변경으로 evict 되면 다음 요청에서 다시 조회한다.")
+    void evict_ReloadsOnNextGet() {
+        // Given
+        given(userDetailsService.loadUserById(1L)).willReturn(user(1L, "before"), user(1L, "after"));
+        principalCache.get(1L);
+
+        // When
+        principalCache.evict(1L);
+
+        // Then
+        assertThat(principalCache.get(1L).getMember().getName()).isEqualTo("after");
+        verify(userDetailsService, times(2)).loadUserById(1L);
+    }
+
+    @Test
+    @DisplayName("무상태 모드: 토큰 클레임만으로 회원 ID/이메일/권한을 가진 인증 주체를 만든다.")
+    void fromClaims() {
+        CustomUserDetails user = CustomUserDetails.fromClaims(7L, "user@safely.com", "ROLE_USER");
+
+        assertThat(user.getMember().getId()).isEqualTo(7L);
+        assertThat(user.getUsername()).isEqualTo("user@safely.com");
+        assertThat(user.getAuthorities()).extracting(a -> a.getAuthority()).containsExactly("ROLE_USER");
+    }
+
+    private CustomUserDetails user(Long id, String name) {
+        return new CustomUserDetails(Member.builder().id(id).email("user@safely.com").password("pw").name(name).authority("ROLE_USER").build());
+    }
+}
@@ -0,0 +1,200 @@
+package com.safely.domain.expense.service;
+
+import com.safely.domain.expense.dto.ExpenseImportResponse;
+import com.safely.domain.expense.dto.ExpenseResponse;
+import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.expense.repository.ExpenseRepository;
+import com.safely.domain.group.dto.GroupCreateRequest;
+import com.safely.domain.group.service.GroupService;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.dto.SettlementResponse;
+import com.safely.domain.settlement.service.SettlementService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+
+@SpringBootTest
+@Transactional
+class ExpenseImportServiceIntegrationTest {
+
+    @Autowired ExpenseImportService expenseImportService;
+    @Autowired ExpenseService expenseService;
+    @Autowired SettlementService settlementService;
+    @Autowired GroupService groupService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+    @MockitoSpyBean ExpenseRepository expenseRepository;
+
+    @Test
+    @DisplayName("CSV 대량 등록: 정상 행은 저장되고, 잘못된 행은 줄 번호와 사유가 반환된다.")
+    void importCsv_ReportsRowErrors() throws Exception {
+        // Given
+        Member a = saveMember("import-a@safely.com", "A");
+        Member b = saveMember("import-b@safely.com", "B");
+        Member outsider = saveMember("import-x@safely.com", "X");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("등록 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+
+        String csv = String.join("\n",
+                "spentDate,location,category,amount,payerId,participantMemberIds",
+                "2025-05-01,\"카페, 강남점\",FOOD,10000," + a.getId() + "," + a.getId() + ";" + b.getId(),
+                "2025-05-02,택시,TRANSPORT,4000," + b.getId() + "," + a.getId() + ";" + b.getId(),
+                "2025-05-02,호텔,HOTEL,50000," + a.getId() + "," + a.getId(),
+                "2025-05-03,식당,FOOD,9000," + outsider.getId() + "," + a.getId(),
+                "",
+                "2025-05-03,편의점,ETC,-1," + a.getId() + "," + a.getId(),
+                "2025-05-04,간식,FOOD,2000," + a.getId() + "," + a.getId() + ";" + a.getId());
+
+        // When
+        ExpenseImportResponse response = expenseImportService.importExpenses(groupId, stream(csv), ExpenseImportService.Format.CSV);
+        em.clear();
+
+        // Then
+        assertThat(response.totalRows()).isEqualTo(6);
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.failedRows()).isEqualTo(4);
+        assertThat(response.errors()).extracting(ExpenseImportResponse.RowError::line).containsExactly(4L, 5L, 7L, 8L);
+
+        assertThat(expenseService.getExpenses(groupId)).extracting(ExpenseResponse::location)
+                .containsExactlyInAnyOrder("카페, 강남점", "택시");
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 3000L,
+                b.getId(), -3000L));
+    }
+
+    @Test
+    @DisplayName("NDJSON 대량 등록: 청크 크기보다 많은 행도 모두 저장되고 잔액 원장에 반영된다.")
+    void importNdjson_AcrossChunks() throws Exception {
+        // Given
+        Member a = saveMember("ndjson-a@safely.com", "A");
+        Member b = saveMember("ndjson-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("대량 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+
+        int rows = ExpenseImportService.CHUNK_SIZE + 3;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < rows; i++) {
+            body.append("{\"spentDate\":\"2025-05-01\",\"location\":\"편의점\",\"category\":\"ETC\",\"amount\":200,")
+                    .append("\"payerId\":").append(a.getId())
+                    .append(",\"participantMemberIds\":[").append(a.getId()).append(',').append(b.getId()).append("]}\n");
+        }
+
+        // When
+        ExpenseImportResponse response = expenseImportService.importExpenses(groupId, stream(body.toString()), ExpenseImportService.Format.NDJSON);
+        em.clear();
+
+        // Then
+        assertThat(response.importedRows()).isEqualTo(rows);
+        assertThat(response.errors()).isEmpty();
+        assertThat(expenseService.getExpenses(groupId)).hasSize(rows);
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 100L * rows,
+                b.getId(), -100L * rows));
+    }
+
+    @Test
+    @DisplayName("NDJSON 대량 등록: split을 지정하면 그 방식으로 분배하고, 참여자 순서와 관계없이 지출 생성과 같은 결과를 낸다.")
+    void importNdjson_AppliesSplit() throws Exception {
+        // Given: 참여자를 ID 역순으로 보낸 정액 분배, 균등 분배(나머지 1원), 합계가 맞지 않는 정액 분배
+        Member a = saveMember("split-a@safely.com", "A");
+        Member b = saveMember("split-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("분배 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+
+        String head = "{\"spentDate\":\"2025-05-01\",\"location\":\"식당\",\"category\":\"FOOD\",\"payerId\":" + a.getId()
+                + ",\"participantMemberIds\":[" + b.getId() + "," + a.getId() + "],";
+        String body = String.join("\n",
+                head + "\"amount\":1000,\"split\":{\"type\":\"EXACT\",\"shares\":["
+                        + "{\"memberId\":" + b.getId() + ",\"value\":300},{\"memberId\":" + a.getId() + ",\"value\":700}]}}",
+                head + "\"amount\":1001}",
+                head + "\"amount\":1000,\"split\":{\"type\":\"EXACT\",\"shares\":["
+                        + "{\"memberId\":" + b.getId() + ",\"value\":300},{\"memberId\":" + a.getId() + ",\"value\":600}]}}");
+
+        // When
+        ExpenseImportResponse response = expenseImportService.importExpenses(groupId, stream(body), ExpenseImportService.Format.NDJSON);
+        em.clear();
+
+        // Then: A는 700 + 501(ID가 작은 쪽이 나머지를 가짐)을 분담함
+        assertThat(response.importedRows()).isEqualTo(2);
+        assertThat(response.errors()).containsExactly(
+                new ExpenseImportResponse.RowError(3L, "분배 정보가 올바르지 않습니다. 참여자와 금액 합계를 확인해주세요."));
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 2001L - 700L - 501L,
+                b.getId(), -(300L + 500L)));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 청크마다 실제로 커밋/롤백되어야 함
+    @DisplayName("대량 등록: 저장 중 한 줄이 실패해도 같은 청크의 나머지 줄은 저장되고, 실패한 줄만 사유와 함께 반환된다.")
+    void importCsv_IsolatesFailedRowInChunk() throws Exception {
+        // Given: 검증은 통과하지만 저장에 실패하는 줄(3번째 줄)과 장소가 너무 긴 줄(5번째 줄)
+        Member a = saveMember("chunk-a@safely.com", "A");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("청크 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        doThrow(new DataIntegrityViolationException("저장 불가 행"))
+                .when(expenseRepository).save(argThat((Expense expense) -> "불량".equals(expense.getLocation())));
+
+        String row = "2025-05-01,%s,FOOD,1000," + a.getId() + "," + a.getId();
+        String csv = String.join("\n",
+                row.formatted("식당1"),
+                row.formatted("식당2"),
+                row.formatted("불량"),
+                row.formatted("식당3"),
+                row.formatted("식".repeat(256)),
+                row.formatted("식당4"));
+
+        // When
+        ExpenseImportResponse response = expenseImportService.importExpenses(groupId, stream(csv), ExpenseImportService.Format.CSV);
+
+        // Then
+        assertThat(response.importedRows()).isEqualTo(4);
+        assertThat(response.failedRows()).isEqualTo(2);
+        assertThat(response.errors()).containsExactly(
+                new ExpenseImportResponse.RowError(5L, "장소는 255자 이하여야 합니다."),
+                new ExpenseImportResponse.RowError(3L, "저장에 실패했습니다: 저장 불가 행"));
+        assertThat(expenseService.getExpenses(groupId)).extracting(ExpenseResponse::location)
+                .containsExactlyInAnyOrder("식당1", "식당2", "식당3", "식당4");
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(a.getId(), 0L));
+    }
+
+    @Test
+    @DisplayName("CSV 분리: 따옴표 안의 쉼표와 이스케이프된 따옴표를 처리한다.")
+    void splitCsvLine_HandlesQuotes() {
+        assertThat(ExpenseImportService.splitCsvLine("a,\"b, c\",\"say \"\"hi\"\"\",")).containsExactly("a", "b, c", "say \"hi\"", "");
+    }
+
+    private InputStream stream(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<Long, Long> preview(Long groupId) {
+        return settlementService.getSettlementPreview(groupId).stream()
+                .collect(Collectors.toMap(SettlementResponse::memberId, SettlementResponse::netAmount));
+    }
+
+    private Member saveMember(String email, String name) {
+        return memberRepository.save(Member.builder().email(email).password("1").name(name).authority("ROLE_USER").build());
+    }
+}
@@ -8,6 +8,8 @@ import com.safely.domain.group.dto.GroupCreateRequest;
 import com.safely.domain.group.service.GroupService;
 import com.safely.domain.member.entity.Member;
 import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.dto.MemberAmount;
+import com.safely.domain.settlement.repository.GroupBalanceRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,11 +17,14 @@ import org.springframework.boot.test.context.SpringBootTest;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import java.util.stream.Collectors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest
@@ -29,9 +34,10 @@ class ExpenseServiceConcurrencyTest {
     @Autowired private GroupService groupService;
     @Autowired private MemberRepository memberRepository;
     @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private GroupBalanceRepository groupBalanceRepository;
 
     @Test
-    @DisplayName("동시성 테스트: 동시에 10명이 같은 지출 내역을 수정하면, @Retryable 덕분에 여러 건이 성공해야 한다.")
+    @DisplayName("동시성 테스트: 동시에 10명이 같은 지출을 수정하면, 같은 서버 안에서는 락으로 줄 서서 모두 순서대로 반영되어야 한다. (기본값: 덮어쓰기)")
     void updateExpense_Concurrency() throws InterruptedException {
         // 멤버 생성
         Member payer = memberRepository.save(Member.builder().email("payer@test.com").password("1").name("결제자").authority("USER").build());
@@ -82,7 +88,6 @@ class ExpenseServiceConcurrencyTest {
         // 결과 검증
         Expense finalExpense = expenseRepository.findById(expenseId).orElseThrow();
 
-        System.out.println("=== 테스트 결과 ===");
         System.out.println("=== 테스트 결과 ===");
         System.out.println("성공 횟수: " + successCount.get());
         System.out.println("실패 횟수: " + failCount.get());
@@ -90,12 +95,62 @@ class ExpenseServiceConcurrencyTest {
         System.out.println("최종 금액: " + finalExpense.getAmount());
 
         // 낙관적 락(@Version)이 없었다면: 덮어쓰기(Lost Update)가 발생하여 버전은 0 -> 1로 한 번만 오르고 끝날 수 있음.
-        // 낙관적 락 + @Retryable 적용 시: 충돌 난 스레드가 재시도하여 버전을 계속 올림.
+        // 낙관적 락 + 재시도 적용 시: 같은 서버의 요청은 락으로 줄 서고, 충돌 난 요청은 재시도하여 버전을 계속 올림.
 
         // 최소 1건은 무조건 성공해야 함
         assertThat(successCount.get()).isGreaterThan(0);
 
+        // 같은 서버 안에서는 락으로 줄 서므로 모두 성공해야 함 (덮어쓰기 모드에서는 충돌로 거절하지 않음)
+        assertThat(successCount.get()).isEqualTo(threadCount);
+
+        // 성공한 수정마다 버전이 한 번씩 오르고, 마지막으로 반영된 요청의 금액이 남음
+        assertThat(finalExpense.getVersion()).isEqualTo((long) threadCount);
+        assertThat(finalExpense.getAmount()).isBetween(20000L, 20000L + threadCount - 1);
+
         // 버전이 0(초기)보다 커야 함 (수정이 반영됨)
         assertThat(finalExpense.getVersion()).isGreaterThan(0L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("동시성 테스트: 새 그룹에 첫 지출이 동시에 등록되어도 원장 행 INSERT가 충돌하지 않고 잔액이 모두 반영되어야 한다.")
+    void createExpense_ConcurrentFirstWrites() throws InterruptedException {
+        // Given: 원장이 비어있는 새 그룹
+        Member payer = memberRepository.save(Member.builder().email("first-payer@test.com").password("1").name("결제자").authority("USER").build());
+        Member participant = memberRepository.save(Member.builder().email("first-part@test.com").password("1").name("참여자").authority("USER").build());
+        Long groupId = groupService.createGroup(payer.getId(), new GroupCreateRequest("첫 지출 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(participant.getId(), groupService.getGroupDetail(groupId, payer.getId()).inviteCode());
+
+        int threadCount = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger failCount = new AtomicInteger();
+
+        // When: 10,000원 지출 (2명) 8건을 동시에 등록
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    expenseService.createExpense(groupId, new ExpenseCreateRequest(
+                            LocalDate.now(), "식당", ExpenseCategory.FOOD, 10000L, payer.getId(), List.of(payer.getId(), participant.getId())));
+                } catch (Exception e) {
+                    failCount.getAndIncrement();
+                    System.out.println("[Fail] 지출 등록 실패: " + e.getMessage());
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        start.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // Then: 모두 성공하고, 원장 잔액은 결제자 +40,000 / 참여자 -40,000
+        assertThat(failCount.get()).isZero();
+        Map<Long, Long> balances = groupBalanceRepository.findBalancesByGroupId(groupId).stream()
+                .collect(Collectors.groupingBy(MemberAmount::memberId, Collectors.summingLong(MemberAmount::amount)));
+        assertThat(balances).containsExactlyInAnyOrderEntriesOf(Map.of(
+                payer.getId(), 40000L,
+                participant.getId(), -40000L));
+    }
+}
@@ -0,0 +1,395 @@
+package com.safely.domain.expense.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.dto.ExpenseResponse;
+import com.safely.domain.expense.dto.ExpenseScrollResponse;
+import com.safely.domain.expense.dto.ExpenseSearchCondition;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.domain.group.dto.GroupCreateRequest;
+import com.safely.domain.group.service.GroupRosterCache;
+import com.safely.domain.group.service.GroupService;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import com.safely.global.exception.group.NotGroupMemberException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@Transactional
+class ExpenseServiceIntegrationTest {
+
+    @Autowired ExpenseService expenseService;
+    @Autowired GroupService groupService;
+    @Autowired GroupRosterCache groupRosterCache;
+    @Autowired MemberRepository memberRepository;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+
+    static final ExpenseSearchCondition NO_FILTER = new ExpenseSearchCondition(null, null, null, null);
+
+    @Test
+    @DisplayName("커서 조회: 같은 결제일이 섞여 있어도 누락/중복 없이 전체 목록과 같은 순서로 끝까지 조회된다.")
+    void scrollExpenses_WalksAllPagesInOrder() {
+        // Given: 결제일이 겹치는 지출 7건
+        Member a = saveMember("scroll-a@safely.com", "A");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("커서 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        LocalDate day = LocalDate.of(2025, 5, 1);
+        for (int i = 0; i < 7; i++) {
+            expenseService.createExpense(groupId, request(day.plusDays(i % 3), ExpenseCategory.FOOD, 1000L + i, a, List.of(a)));
+        }
+        em.flush();
+        em.clear();
+
+        // When: 3건씩 끝까지 조회
+        List<Long> scrolled = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            ExpenseScrollResponse page = expenseService.scrollExpenses(groupId, NO_FILTER, cursor, 3);
+            page.expenses().forEach(e -> scrolled.add(e.expenseId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // Then
+        List<Long> all = expenseService.getExpenses(groupId).stream().map(ExpenseResponse::expenseId).toList();
+        assertThat(pages).isEqualTo(3);
+        assertThat(scrolled).hasSize(7).doesNotHaveDuplicates();
+        assertThat(scrolled).containsExactlyInAnyOrderElementsOf(all);
+        assertThat(expenseService.scrollExpenses(groupId, NO_FILTER, null, 7).expenses())
+                .extracting(ExpenseResponse::spentDate)
+                .isSortedAccordingTo((x, y) -> y.compareTo(x));
+    }
+
+    @Test
+    @DisplayName("커서 조회: 항목/결제자/기간 필터가 적용된다.")
+    void scrollExpenses_Filters() {
+        // Given
+        Member a = saveMember("filter-a@safely.com", "A");
+        Member b = saveMember("filter-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("필터 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        LocalDate day = LocalDate.of(2025, 5, 1);
+        expenseService.createExpense(groupId, request(day, ExpenseCategory.FOOD, 1000L, a, List.of(a, b)));
+        expenseService.createExpense(groupId, request(day.plusDays(1), ExpenseCategory.TRANSPORT, 2000L, b, List.of(a, b)));
+        expenseService.createExpense(groupId, request(day.plusDays(2), ExpenseCategory.FOOD, 3000L, b, List.of(a, b)));
+        em.flush();
+        em.clear();
+
+        // When & Then
+        assertThat(amounts(groupId, new ExpenseSearchCondition(ExpenseCategory.FOOD, null, null, null)))
+                .containsExactly(3000L, 1000L);
+        assertThat(amounts(groupId, new ExpenseSearchCondition(null, b.getId(), null, null)))
+                .containsExactly(3000L, 2000L);
+        assertThat(amounts(groupId, new ExpenseSearchCondition(null, null, day, day.plusDays(1))))
+                .containsExactly(2000L, 1000L);
+    }
+
+    @Test
+    @DisplayName("목록 조회: 지출/참여자 수와 관계없이 SQL 한 번으로 참여자 수까지 조회된다.")
+    void getExpenses_SingleStatement() {
+        // Given: 참여자 수가 다른 지출 3건
+        Member a = saveMember("count-a@safely.com", "A");
+        Member b = saveMember("count-b@safely.com", "B");
+        Member c = saveMember("count-c@safely.com", "C");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("카운트 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        String inviteCode = groupService.getGroupDetail(groupId, a.getId()).inviteCode();
+        groupService.joinGroupByCode(b.getId(), inviteCode);
+        groupService.joinGroupByCode(c.getId(), inviteCode);
+        LocalDate day = LocalDate.of(2025, 5, 1);
+        expenseService.createExpense(groupId, request(day, ExpenseCategory.FOOD, 3000L, a, List.of(a, b, c)));
+        expenseService.createExpense(groupId, request(day.plusDays(1), ExpenseCategory.FOOD, 2000L, a, List.of(a, b)));
+        expenseService.createExpense(groupId, request(day.plusDays(2), ExpenseCategory.FOOD, 1000L, a, List.of(c)));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<ExpenseResponse> expenses = expenseService.getExpenses(groupId);
+        ExpenseScrollResponse page = expenseService.scrollExpenses(groupId, NO_FILTER, null, 10);
+
+        // Then: 목록 1회 + 커서 조회 1회
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2L);
+        assertThat(expenses).extracting(ExpenseResponse::participantCount).containsExactly(1, 2, 3);
+        assertThat(page.expenses()).extracting(ExpenseResponse::participantCount).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("지출 생성: 참여자가 20명이어도 참여자 INSERT가 JDBC 배치로 묶여서 SQL 왕복 횟수가 참여자 수에 비례하지 않는다.")
+    void createExpense_BatchesParticipantInserts() {
+        // Given: 20명 그룹 (원장도 미리 채워둠)
+        Member payer = saveMember("batch-0@safely.com", "M0");
+        Long groupId = groupService.createGroup(payer.getId(), new GroupCreateRequest("배치 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        String inviteCode = groupService.getGroupDetail(groupId, payer.getId()).inviteCode();
+        List<Member> members = new ArrayList<>(List.of(payer));
+        for (int i = 1; i < 20; i++) {
+            Member member = saveMember("batch-" + i + "@safely.com", "M" + i);
+            groupService.joinGroupByCode(member.getId(), inviteCode);
+            members.add(member);
+        }
+        expenseService.createExpense(groupId, request(LocalDate.now(), ExpenseCategory.FOOD, 2000L, payer, members));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        expenseService.createExpense(groupId, request(LocalDate.now(), ExpenseCategory.FOOD, 20000L, payer, members));
+        em.flush();
+
+        // Then: IDENTITY + 건별 원장 UPDATE였다면 INSERT 21번 + UPDATE 20번.
+        // 배치 적용 후에는 조회 몇 번 + 지출 INSERT + 참여자 INSERT 배치 + 원장 UPDATE 배치로 끝남
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(21L);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("지출 수정: 참여자 행은 전체 삭제 후 재생성하지 않고, 실제로 바뀐 참여자만 INSERT/DELETE 된다.")
+    void updateExpense_UpdatesOnlyChangedParticipants() {
+        // Given: 4명이 10,000원을 나눈 지출
+        Member a = saveMember("diff-a@safely.com", "A");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("수정 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        String inviteCode = groupService.getGroupDetail(groupId, a.getId()).inviteCode();
+        List<Member> members = new ArrayList<>(List.of(a));
+        for (String name : List.of("B", "C", "D", "E")) {
+            Member member = saveMember("diff-" + name + "@safely.com", name);
+            groupService.joinGroupByCode(member.getId(), inviteCode);
+            members.add(member);
+        }
+        LocalDate day = LocalDate.now();
+        Long expenseId = expenseService.createExpense(groupId, request(day, ExpenseCategory.FOOD, 10000L, a, members.subList(0, 4)));
+        em.flush();
+        em.clear();
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+
+        // When: 장소만 수정
+        statistics.clear();
+        expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                day, "카페", ExpenseCategory.FOOD, 10000L, a.getId(), ids(members.subList(0, 4))));
+        em.flush();
+        em.clear();
+
+        // Then: 참여자는 건드리지 않음
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+
+        // When: D가 빠지고 E가 들어옴 (금액은 그대로라 나머지 3명의 분담 금액도 그대로)
+        statistics.clear();
+        expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                day, "카페", ExpenseCategory.FOOD, 10000L, a.getId(), ids(List.of(a, members.get(1), members.get(2), members.get(4)))));
+        em.flush();
+        em.clear();
+
+        // Then: 참여자 INSERT 1 (E), 참여자 DELETE 1 (D). 처음 분담하는 E의 원장 행은 JDBC upsert로 만들어짐
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1L);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1L);
+        ExpenseResponse updated = expenseService.getExpenses(groupId).get(0);
+        assertThat(updated.location()).isEqualTo("카페");
+        assertThat(updated.participantCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("지출 생성: 가중치 분배는 요청 순서와 관계없이 참여자 ID 순서로 계산되고 합계는 지출 금액과 같다.")
+    void createExpense_SharesSplit() {
+        // Given
+        Member a = saveMember("share-a@safely.com", "A");
+        Member b = saveMember("share-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("분배 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        ExpenseSplitRequest split = new ExpenseSplitRequest(SplitType.SHARES,
+                List.of(new ExpenseSplitRequest.Share(b.getId(), 1L), new ExpenseSplitRequest.Share(a.getId(), 2L)), null);
+
+        // When: 10,001원을 A:B = 2:1
+        Long expenseId = expenseService.createExpense(groupId, new ExpenseCreateRequest(
+                LocalDate.now(), "숙소", ExpenseCategory.ACCOMMODATION, 10001L, a.getId(), List.of(b.getId(), a.getId()), split));
+        em.flush();
+        em.clear();
+
+        // Then
+        List<Object[]> rows = em.createQuery(
+                        "select p.member.id, p.amount from ExpenseParticipant p where p.expense.id = :id order by p.member.id", Object[].class)
+                .setParameter("id", expenseId)
+                .getResultList();
+        assertThat(rows).extracting(row -> row[1]).containsExactly(6667L, 3334L);
+    }
+
+    @Test
+    @DisplayName("지출 수정: 가중치 분배 지출은 분배 정보 없이 금액을 바꿀 수 없고, 장소만 바꾸면 분담 금액이 유지된다.")
+    void updateExpense_KeepsNonEqualSplit() {
+        // Given: 10,001원을 A:B = 2:1로 나눈 지출
+        Member a = saveMember("keep-a@safely.com", "A");
+        Member b = saveMember("keep-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("분배 유지 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        ExpenseSplitRequest split = new ExpenseSplitRequest(SplitType.SHARES,
+                List.of(new ExpenseSplitRequest.Share(a.getId(), 2L), new ExpenseSplitRequest.Share(b.getId(), 1L)), null);
+        LocalDate day = LocalDate.now();
+        Long expenseId = expenseService.createExpense(groupId, new ExpenseCreateRequest(
+                day, "숙소", ExpenseCategory.ACCOMMODATION, 10001L, a.getId(), List.of(a.getId(), b.getId()), split));
+        em.flush();
+        em.clear();
+
+        // When & Then: 분배 정보 없이 금액 변경 -> 400 (균등 분배로 바뀌지 않음)
+        assertThatThrownBy(() -> expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                day, "숙소", ExpenseCategory.ACCOMMODATION, 20000L, a.getId(), List.of(a.getId(), b.getId()))))
+                .isInstanceOf(InvalidExpenseSplitException.class);
+        em.clear();
+
+        // When: 분배 정보 없이 장소만 변경
+        expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                day, "호텔", ExpenseCategory.ACCOMMODATION, 10001L, a.getId(), List.of(a.getId(), b.getId())));
+        em.flush();
+        em.clear();
+
+        // Then: 가중치 분배 결과 그대로
+        List<Object[]> rows = em.createQuery(
+                        "select p.member.id, p.amount from ExpenseParticipant p where p.expense.id = :id order by p.member.id", Object[].class)
+                .setParameter("id", expenseId)
+                .getResultList();
+        assertThat(rows).extracting(row -> row[1]).containsExactly(6667L, 3334L);
+    }
+
+    @Test
+    @DisplayName("지출 생성: 그룹/결제자/참여자는 멤버 목록 캐시로 확인하므로 엔티티를 SELECT 하지 않는다.")
+    void createExpense_ResolvesMembersWithoutSelect() {
+        // Given: 멤버 목록과 원장이 이미 준비된 그룹
+        Member a = saveMember("roster-a@safely.com", "A");
+        Member b = saveMember("roster-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("캐시 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        expenseService.createExpense(groupId, request(LocalDate.now(), ExpenseCategory.FOOD, 1000L, a, List.of(a, b)));
+        em.flush();
+        em.clear();
+
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        expenseService.createExpense(groupId, request(LocalDate.now(), ExpenseCategory.FOOD, 3000L, b, List.of(a, b)));
+        em.flush();
+
+        // Then: 그룹/회원 엔티티 조회 없음 (이전에는 그룹 1 + 결제자 1 + 참여자 1 SELECT)
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("지출 생성 실패: 다른 서버에서 삭제된 그룹이 멤버 목록 캐시에 남아있어도 500이 아닌 GROUP_NOT_FOUND를 반환하고 캐시를 비운다.")
+    void createExpense_Fail_GroupDeletedElsewhere() {
+        // Given: 이 서버의 캐시에 멤버 목록이 있는 상태에서, 다른 서버가 그룹을 삭제함
+        Member a = saveMember("stale-a@safely.com", "A");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("삭제된 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        assertThat(groupRosterCache.getMemberIds(groupId)).containsExactly(a.getId());
+        em.flush();
+        em.createNativeQuery("delete from travel_group_members where group_id = :id").setParameter("id", groupId).executeUpdate();
+        em.createNativeQuery("delete from travel_groups where group_id = :id").setParameter("id", groupId).executeUpdate();
+        em.clear();
+
+        // When & Then
+        assertThatThrownBy(() -> expenseService.createExpense(groupId, request(LocalDate.now(), ExpenseCategory.FOOD, 1000L, a, List.of(a))))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.GROUP_NOT_FOUND);
+        assertThat(groupRosterCache.getMemberIds(groupId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지출 생성 실패: 그룹이 남아있으면 다른 제약 위반을 GROUP_NOT_FOUND로 바꾸지 않고, 멤버 목록 캐시도 유지한다.")
+    void createExpense_Fail_OtherIntegrityViolation() {
+        // Given: 컬럼 길이를 넘는 장소
+        Member a = saveMember("too-long-a@safely.com", "A");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("우리 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        ExpenseCreateRequest tooLong = new ExpenseCreateRequest(
+                LocalDate.now(), "식".repeat(256), ExpenseCategory.FOOD, 1000L, a.getId(), List.of(a.getId()));
+
+        // When & Then
+        assertThatThrownBy(() -> expenseService.createExpense(groupId, tooLong))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(groupRosterCache.getMemberIds(groupId)).containsExactly(a.getId());
+    }
+
+    @Test
+    @DisplayName("지출 생성/수정 실패: 다른 그룹의 회원은 결제자나 참여자가 될 수 없다.")
+    void createExpense_Fail_OtherGroupMember() {
+        // Given: A의 그룹과, 다른 그룹에만 속한 C
+        Member a = saveMember("cross-a@safely.com", "A");
+        Member c = saveMember("cross-c@safely.com", "C");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("우리 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.createGroup(c.getId(), new GroupCreateRequest("남의 여행", LocalDate.now(), LocalDate.now(), "Busan"));
+        Long expenseId = expenseService.createExpense(groupId, request(LocalDate.now(), ExpenseCategory.FOOD, 1000L, a, List.of(a)));
+        LocalDate day = LocalDate.now();
+
+        // When & Then
+        assertThatThrownBy(() -> expenseService.createExpense(groupId, request(day, ExpenseCategory.FOOD, 1000L, a, List.of(a, c))))
+                .isInstanceOf(NotGroupMemberException.class);
+        assertThatThrownBy(() -> expenseService.createExpense(groupId, request(day, ExpenseCategory.FOOD, 1000L, c, List.of(a))))
+                .isInstanceOf(NotGroupMemberException.class);
+        assertThatThrownBy(() -> expenseService.updateExpense(groupId, expenseId, request(day, ExpenseCategory.FOOD, 1000L, a, List.of(a, c))))
+                .isInstanceOf(NotGroupMemberException.class);
+        assertThatThrownBy(() -> expenseService.createExpense(groupId, request(day, ExpenseCategory.FOOD, 1000L, a, List.of(a, a))))
+                .isInstanceOf(BusinessException.class);
+
+        // When: C가 가입하면 바로 참여자로 등록 가능
+        groupService.joinGroupByCode(c.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        expenseService.updateExpense(groupId, expenseId, request(day, ExpenseCategory.FOOD, 1000L, c, List.of(a, c)));
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(expenseService.getExpenses(groupId).get(0).participantCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("커서 조회 실패: 형식이 잘못된 커서는 잘못된 입력값으로 처리된다.")
+    void scrollExpenses_Fail_InvalidCursor() {
+        assertThatThrownBy(() -> expenseService.scrollExpenses(1L, NO_FILTER, "not-a-cursor", 10))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private List<Long> amounts(Long groupId, ExpenseSearchCondition condition) {
+        return expenseService.scrollExpenses(groupId, condition, null, 20).expenses().stream()
+                .map(ExpenseResponse::amount)
+                .toList();
+    }
+
+    private ExpenseCreateRequest request(LocalDate spentDate, ExpenseCategory category, Long amount, Member payer, List<Member> participants) {
+        return new ExpenseCreateRequest(
+                spentDate, "식당", category, amount, payer.getId(),
+                participants.stream().map(Member::getId).toList());
+    }
+
+    private List<Long> ids(List<Member> members) {
+        return members.stream().map(Member::getId).toList();
+    }
+
+    private Member saveMember(String email, String name) {
+        return memberRepository.save(Member.builder().email(email).password("1").name(name).authority("ROLE_USER").build());
+    }
+}
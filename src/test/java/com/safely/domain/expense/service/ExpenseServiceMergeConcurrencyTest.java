@@ -0,0 +1,142 @@
+package com.safely.domain.expense.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.dto.ExpenseResponse;
+import com.safely.domain.expense.entity.Expense;
+import com.safely.domain.expense.repository.ExpenseRepository;
+import com.safely.domain.group.dto.GroupCreateRequest;
+import com.safely.domain.group.service.GroupService;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.dto.MemberAmount;
+import com.safely.domain.settlement.repository.GroupBalanceRepository;
+import com.safely.global.exception.expense.ExpenseEditConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+
+// expense.update.conflict-mode=merge 일 때의 동시 수정 (기본값인 덮어쓰기는 ExpenseServiceConcurrencyTest)
+@SpringBootTest(properties = "expense.update.conflict-mode=merge")
+class ExpenseServiceMergeConcurrencyTest {
+
+    @MockitoSpyBean private ExpenseWriteCoordinator expenseWriteCoordinator;
+
+    @Autowired private ExpenseService expenseService;
+    @Autowired private GroupService groupService;
+    @Autowired private MemberRepository memberRepository;
+    @Autowired private ExpenseRepository expenseRepository;
+    @Autowired private GroupBalanceRepository groupBalanceRepository;
+
+    @Test
+    @DisplayName("병합 모드 동시성 테스트: 동시에 10명이 같은 지출의 금액을 서로 다르게 수정하면, 먼저 반영된 수정을 덮어쓰지 않고 나머지는 충돌로 거절되어야 한다.")
+    void updateExpense_ConflictingEditsRejected() throws InterruptedException {
+        // Given: 10,000원 지출
+        Member payer = memberRepository.save(Member.builder().email("payer@test.com").password("1").name("결제자").authority("USER").build());
+        Member participant = memberRepository.save(Member.builder().email("part@test.com").password("1").name("참여자").authority("USER").build());
+        Long groupId = groupService.createGroup(payer.getId(), new GroupCreateRequest("병합 동시성 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(participant.getId(), groupService.getGroupDetail(groupId, payer.getId()).inviteCode());
+        Long expenseId = expenseService.createExpense(groupId, new ExpenseCreateRequest(
+                LocalDate.now(), "식당", ExpenseCategory.FOOD, 10000L, payer.getId(), List.of(payer.getId(), participant.getId())));
+
+        int threadCount = 10;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger failCount = new AtomicInteger();
+        AtomicInteger conflictCount = new AtomicInteger(); // 그 중 수정 충돌(409)로 거절된 횟수
+
+        // When: 각 스레드가 금액을 서로 다르게 수정
+        for (int i = 0; i < threadCount; i++) {
+            long newAmount = 20000L + i;
+            executorService.submit(() -> {
+                try {
+                    expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                            LocalDate.now(), "식당_수정", ExpenseCategory.FOOD, newAmount, payer.getId(), List.of(payer.getId(), participant.getId())));
+                    successCount.getAndIncrement();
+                } catch (Exception e) {
+                    failCount.getAndIncrement();
+                    if (e instanceof ExpenseEditConflictException) {
+                        conflictCount.getAndIncrement();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+
+        // Then: 각 요청은 락을 잡기 전에 읽은 상태를 기준으로 병합하므로, 같은 금액 필드를 그 사이 다른 요청이 먼저 바꿨으면
+        // 덮어쓰지 않고 충돌(409)로 거절함. 기준을 읽기 전에 앞 요청이 끝났다면 그 위에 정상적으로 수정됨.
+        Expense finalExpense = expenseRepository.findById(expenseId).orElseThrow();
+        assertThat(successCount.get()).isGreaterThan(0);
+        assertThat(conflictCount.get()).isEqualTo(failCount.get());
+        assertThat(successCount.get() + conflictCount.get()).isEqualTo(threadCount);
+        assertThat(finalExpense.getVersion()).isEqualTo((long) successCount.get());
+    }
+
+    @Test
+    @DisplayName("병합 모드 동시성 테스트: 같은 지출의 장소와 참여자를 동시에 수정하면, 두 요청의 변경이 모두 남아야 한다.")
+    void updateExpense_ConcurrentFieldEditsBothSurvive() throws Exception {
+        // Given: A가 9,000원을 A, B와 나눈 지출
+        Member a = memberRepository.save(Member.builder().email("merge-a@test.com").password("1").name("A").authority("USER").build());
+        Member b = memberRepository.save(Member.builder().email("merge-b@test.com").password("1").name("B").authority("USER").build());
+        Member c = memberRepository.save(Member.builder().email("merge-c@test.com").password("1").name("C").authority("USER").build());
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("병합 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        String inviteCode = groupService.getGroupDetail(groupId, a.getId()).inviteCode();
+        groupService.joinGroupByCode(b.getId(), inviteCode);
+        groupService.joinGroupByCode(c.getId(), inviteCode);
+        LocalDate day = LocalDate.now();
+        Long expenseId = expenseService.createExpense(groupId, new ExpenseCreateRequest(
+                day, "식당", ExpenseCategory.FOOD, 9000L, a.getId(), List.of(a.getId(), b.getId())));
+
+        // 두 요청 모두 수정 전 상태를 본 뒤에 락으로 줄 서도록, 락을 잡기 직전에 서로 기다리게 함
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        doAnswer(invocation -> {
+            barrier.await(5, TimeUnit.SECONDS);
+            return invocation.callRealMethod();
+        }).when(expenseWriteCoordinator).execute(eq(expenseId), any());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        // When: 한 명은 장소만, 다른 한 명은 참여자만 수정 (각자 화면에 보이는 나머지 값은 그대로 보냄)
+        Future<?> locationEdit = executorService.submit(() -> expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                day, "카페", ExpenseCategory.FOOD, 9000L, a.getId(), List.of(a.getId(), b.getId()))));
+        Future<?> participantEdit = executorService.submit(() -> expenseService.updateExpense(groupId, expenseId, new ExpenseCreateRequest(
+                day, "식당", ExpenseCategory.FOOD, 9000L, a.getId(), List.of(a.getId(), b.getId(), c.getId()))));
+        locationEdit.get(10, TimeUnit.SECONDS);
+        participantEdit.get(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then: 장소와 참여자 변경이 모두 반영되고, 원장도 3명 기준으로 맞음
+        ExpenseResponse updated = expenseService.getExpenses(groupId).get(0);
+        assertThat(updated.location()).isEqualTo("카페");
+        assertThat(updated.participantCount()).isEqualTo(3);
+        Map<Long, Long> balances = groupBalanceRepository.findBalancesByGroupId(groupId).stream()
+                .collect(Collectors.groupingBy(MemberAmount::memberId, Collectors.summingLong(MemberAmount::amount)));
+        assertThat(balances).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 6000L,
+                b.getId(), -3000L,
+                c.getId(), -3000L));
+    }
+}
@@ -0,0 +1,46 @@
+package com.safely.domain.expense.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.global.exception.expense.ExpenseEditConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpenseSnapshotTest {
+
+    final ExpenseSnapshot base = new ExpenseSnapshot(1L, 10000L, "식당", ExpenseCategory.FOOD, LocalDate.of(2025, 1, 1), List.of(1L, 2L));
+
+    @Test
+    @DisplayName("서로 다른 필드를 수정했으면 두 수정이 모두 반영된다.")
+    void merge_NonOverlappingEdits() {
+        // Given: 다른 요청이 장소를 먼저 바꿈, 이 요청은 참여자를 바꿈
+        ExpenseSnapshot current = new ExpenseSnapshot(1L, 10000L, "카페", ExpenseCategory.FOOD, base.spentDate(), List.of(1L, 2L));
+        ExpenseSnapshot requested = new ExpenseSnapshot(1L, 10000L, "식당", ExpenseCategory.FOOD, base.spentDate(), List.of(1L, 2L, 3L));
+
+        // When
+        ExpenseSnapshot merged = ExpenseSnapshot.merge(base, current, requested);
+
+        // Then
+        assertThat(merged.location()).isEqualTo("카페");
+        assertThat(merged.participantIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("같은 필드를 서로 다른 값으로 수정했으면 충돌 예외가 발생하고, 같은 값이면 통과한다.")
+    void merge_OverlappingEdits() {
+        // Given: 두 요청 모두 금액을 바꿈
+        ExpenseSnapshot current = new ExpenseSnapshot(1L, 20000L, "식당", ExpenseCategory.FOOD, base.spentDate(), List.of(1L, 2L));
+        ExpenseSnapshot sameAmount = new ExpenseSnapshot(1L, 20000L, "식당", ExpenseCategory.FOOD, base.spentDate(), List.of(2L, 1L));
+        ExpenseSnapshot otherAmount = new ExpenseSnapshot(1L, 30000L, "식당", ExpenseCategory.FOOD, base.spentDate(), List.of(1L, 2L));
+
+        // When & Then
+        assertThat(ExpenseSnapshot.merge(base, current, sameAmount).amount()).isEqualTo(20000L);
+        assertThatThrownBy(() -> ExpenseSnapshot.merge(base, current, otherAmount))
+                .isInstanceOf(ExpenseEditConflictException.class);
+    }
+}
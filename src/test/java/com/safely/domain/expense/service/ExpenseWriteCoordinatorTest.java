@@ -0,0 +1,104 @@
+package com.safely.domain.expense.service;
+
+import com.safely.global.exception.expense.ExpenseEditConflictException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.support.MetricsRetryListener;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ExpenseWriteCoordinatorTest {
+
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final ExpenseWriteCoordinator coordinator = new ExpenseWriteCoordinator(
+            new ExpenseUpdateProperties(), mock(PlatformTransactionManager.class),
+            new MetricsRetryListener(meterRegistry), meterRegistry);
+
+    @Test
+    @DisplayName("낙관적 락 충돌은 짧게 기다린 뒤 재시도하고, 충돌 해결 메트릭을 남긴다.")
+    void execute_RetriesOptimisticLockFailure() {
+        // Given: 처음 두 번은 충돌
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        long started = System.nanoTime();
+        String result = coordinator.execute(1L, () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException("Expense", 1L);
+            }
+            return "ok";
+        });
+
+        // Then: 기본 설정(10ms부터 지수 증가)이면 1초씩 기다리지 않음
+        assertThat(result).isEqualTo("ok");
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(1000);
+        assertThat(meterRegistry.counter("expense.update.conflicts", "outcome", "resolved").count()).isEqualTo(1.0);
+        assertThat(meterRegistry.summary("expense.update.attempts").totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("같은 필드를 서로 다르게 수정한 충돌은 재시도하지 않는다.")
+    void execute_DoesNotRetryEditConflict() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When & Then
+        assertThatThrownBy(() -> coordinator.execute(1L, () -> {
+            calls.incrementAndGet();
+            throw new ExpenseEditConflictException();
+        })).isInstanceOf(ExpenseEditConflictException.class);
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("expense.update.conflicts", "outcome", "rejected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("같은 지출을 수정하는 요청은 한 번에 하나씩 실행된다.")
+    void execute_SerializesSameExpense() throws Exception {
+        // Given: 첫 요청이 실행 중
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> coordinator.execute(7L, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            entered.countDown();
+            await(release);
+            running.decrementAndGet();
+            return null;
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // When: 같은 지출에 대한 두 번째 요청
+        CompletableFuture<Object> second = CompletableFuture.supplyAsync(() -> coordinator.execute(7L, () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            running.decrementAndGet();
+            return null;
+        }));
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        release.countDown();
+
+        // Then
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertThat(maxRunning.get()).isEqualTo(1);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
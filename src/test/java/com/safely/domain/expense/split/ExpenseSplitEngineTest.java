@@ -0,0 +1,145 @@
+package com.safely.domain.expense.split;
+
+import com.safely.domain.expense.SplitType;
+import com.safely.domain.expense.dto.ExpenseSplitRequest;
+import com.safely.domain.expense.dto.ExpenseSplitRequest.Item;
+import com.safely.domain.expense.dto.ExpenseSplitRequest.Share;
+import com.safely.global.exception.expense.InvalidExpenseSplitException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExpenseSplitEngineTest {
+
+    final ExpenseSplitEngine engine = new ExpenseSplitEngine(List.of(
+            new EqualSplitStrategy(), new ShareSplitStrategy(), new PercentSplitStrategy(),
+            new ExactSplitStrategy(), new ItemizedSplitStrategy()));
+
+    final long[] memberIds = {10L, 20L, 30L};
+
+    @Test
+    @DisplayName("분배 방식별로 참여자 ID 순서에 맞춰 분담 금액을 계산한다.")
+    void split_EachType() {
+        // 가중치 2:1:1 (요청 순서와 관계없이 참여자 ID 순서로 결과가 나옴)
+        assertThat(engine.split(10001, memberIds, shares(SplitType.SHARES, 30L, 1, 10L, 2, 20L, 1)))
+                .containsExactly(5001, 2500, 2500);
+        // 50% / 25% / 25% (4999.5 / 2499.75 / 2499.75 -> 소수 부분이 큰 두 사람이 1원씩)
+        assertThat(engine.split(9999, memberIds, shares(SplitType.PERCENT, 10L, 5000, 20L, 2500, 30L, 2500)))
+                .containsExactly(4999, 2500, 2500);
+        assertThat(engine.split(9000, memberIds, shares(SplitType.EXACT, 10L, 1000, 20L, 3000, 30L, 5000)))
+                .containsExactly(1000, 3000, 5000);
+        // 항목: 10,000원(10, 20) + 6,000원(30), 나머지 1,600원(봉사료)은 항목 금액 비율(5:5:6)대로
+        ExpenseSplitRequest itemized = new ExpenseSplitRequest(SplitType.ITEMIZED, null, List.of(
+                new Item(10000L, List.of(20L, 10L)), new Item(6000L, List.of(30L))));
+        assertThat(engine.split(17600, memberIds, itemized)).containsExactly(5500, 5500, 6600);
+        // 지정하지 않으면 균등 분배
+        assertThat(engine.split(10, memberIds, null)).containsExactly(4, 3, 3);
+    }
+
+    @Test
+    @DisplayName("합계가 맞지 않거나 참여자가 맞지 않는 분배 정보는 거절한다.")
+    void split_Fail_Invalid() {
+        assertThatThrownBy(() -> engine.split(9000, memberIds, shares(SplitType.EXACT, 10L, 1000, 20L, 3000, 30L, 4000)))
+                .isInstanceOf(InvalidExpenseSplitException.class);
+        assertThatThrownBy(() -> engine.split(9000, memberIds, shares(SplitType.PERCENT, 10L, 5000, 20L, 2500, 30L, 2000)))
+                .isInstanceOf(InvalidExpenseSplitException.class);
+        assertThatThrownBy(() -> engine.split(9000, memberIds, shares(SplitType.SHARES, 10L, 1, 20L, 1, 99L, 1)))
+                .isInstanceOf(InvalidExpenseSplitException.class);
+        assertThatThrownBy(() -> engine.split(9000, memberIds, shares(SplitType.SHARES, 10L, 0, 20L, 0, 30L, 0)))
+                .isInstanceOf(InvalidExpenseSplitException.class);
+        assertThatThrownBy(() -> engine.split(1000, memberIds, new ExpenseSplitRequest(SplitType.ITEMIZED, null,
+                List.of(new Item(2000L, List.of(10L))))))
+                .isInstanceOf(InvalidExpenseSplitException.class);
+    }
+
+    @Test
+    @DisplayName("속성 테스트: 올바른 분배 정보라면 어떤 방식이든 분담 금액 합계는 지출 금액과 같다.")
+    void split_SumAlwaysEqualsTotal() {
+        Random random = new Random(LargestRemainderAllocatorTest.SEED);
+        for (int c = 0; c < LargestRemainderAllocatorTest.CASES; c++) {
+            int count = 1 + random.nextInt(50);
+            long[] ids = new long[count];
+            for (int i = 0; i < count; i++) {
+                ids[i] = (i + 1) * 7L;
+            }
+            long total = random.nextLong(0, 100_000_000L);
+
+            SplitType type = SplitType.values()[random.nextInt(SplitType.values().length)];
+            ExpenseSplitRequest request = switch (type) {
+                case EQUAL -> new ExpenseSplitRequest(type, null, null);
+                case SHARES -> new ExpenseSplitRequest(type, randomShares(random, ids, 1 + random.nextInt(100)), null);
+                case PERCENT -> new ExpenseSplitRequest(type, sharesSummingTo(random, ids, 10_000), null);
+                case EXACT -> new ExpenseSplitRequest(type, sharesSummingTo(random, ids, total), null);
+                case ITEMIZED -> new ExpenseSplitRequest(type, null, randomItems(random, ids, total));
+            };
+
+            long[] amounts = engine.split(total, ids, request);
+
+            assertThat(Arrays.stream(amounts).sum()).as("case %d (%s)", c, type).isEqualTo(total);
+        }
+    }
+
+    private ExpenseSplitRequest shares(SplitType type, long... memberAndValue) {
+        List<Share> shares = new ArrayList<>();
+        for (int i = 0; i < memberAndValue.length; i += 2) {
+            shares.add(new Share(memberAndValue[i], memberAndValue[i + 1]));
+        }
+        return new ExpenseSplitRequest(type, shares, null);
+    }
+
+    private List<Share> randomShares(Random random, long[] ids, int maxWeight) {
+        List<Share> shares = new ArrayList<>();
+        for (long id : ids) {
+            shares.add(new Share(id, 1L + random.nextInt(maxWeight)));
+        }
+        return shares;
+    }
+
+    // 합계가 sum이 되도록 무작위로 나눈 값
+    private List<Share> sharesSummingTo(Random random, long[] ids, long sum) {
+        long[] values = new long[ids.length];
+        long left = sum;
+        for (int i = 0; i < ids.length - 1; i++) {
+            values[i] = left == 0 ? 0 : random.nextLong(0, left + 1);
+            left -= values[i];
+        }
+        values[ids.length - 1] = left;
+        List<Share> shares = new ArrayList<>();
+        for (int i = 0; i < ids.length; i++) {
+            shares.add(new Share(ids[i], values[i]));
+        }
+        return shares;
+    }
+
+    // 합계가 total 이하인 항목들 (모든 항목 금액이 0이면 나머지를 나눌 기준이 없으므로 첫 항목은 1원 이상)
+    private List<Item> randomItems(Random random, long[] ids, long total) {
+        List<Item> items = new ArrayList<>();
+        long left = total;
+        int itemCount = 1 + random.nextInt(10);
+        for (int i = 0; i < itemCount && left > 0; i++) {
+            long amount = 1 + random.nextLong(0, left);
+            left -= amount;
+            List<Long> members = new ArrayList<>();
+            for (long id : ids) {
+                if (random.nextBoolean()) {
+                    members.add(id);
+                }
+            }
+            if (members.isEmpty()) {
+                members.add(ids[random.nextInt(ids.length)]);
+            }
+            items.add(new Item(amount, members));
+        }
+        if (items.isEmpty()) {
+            items.add(new Item(0L, List.of(ids[0])));
+        }
+        return items;
+    }
+}
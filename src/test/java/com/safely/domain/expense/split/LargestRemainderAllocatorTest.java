@@ -0,0 +1,94 @@
+package com.safely.domain.expense.split;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LargestRemainderAllocatorTest {
+
+    // 실패하면 같은 시드로 그대로 재현할 수 있도록 고정
+    static final long SEED = 20250101L;
+    static final int CASES = 5_000;
+
+    @Test
+    @DisplayName("나머지는 버려진 소수 부분이 큰 사람부터, 같으면 앞사람부터 1원씩 받는다.")
+    void allocate_Examples() {
+        assertThat(LargestRemainderAllocator.equal(10, 4)).containsExactly(3, 3, 2, 2);
+        assertThat(LargestRemainderAllocator.equal(10000, 3)).containsExactly(3334, 3333, 3333);
+        assertThat(LargestRemainderAllocator.allocate(10001, new long[]{2, 1, 1})).containsExactly(5001, 2500, 2500);
+        assertThat(LargestRemainderAllocator.allocate(100, new long[]{1, 3, 0, 3})).containsExactly(14, 43, 0, 43);
+        assertThat(LargestRemainderAllocator.allocate(-10, new long[]{1, 1, 1})).containsExactly(-4, -3, -3);
+    }
+
+    @Test
+    @DisplayName("속성 테스트: 어떤 총액과 가중치든 합계는 총액과 같고, 각자 몫은 정확한 비율 값과 1원 미만 차이다.")
+    void allocate_SumAlwaysEqualsTotal() {
+        Random random = new Random(SEED);
+        for (int c = 0; c < CASES; c++) {
+            // Given: 참여자 1~300명, 가중치 0~10^k (곱셈 오버플로 구간 포함), 총액 0~10^12
+            int count = 1 + random.nextInt(300);
+            long maxWeight = (long) Math.pow(10, random.nextInt(13));
+            long[] weights = new long[count];
+            for (int i = 0; i < count; i++) {
+                weights[i] = random.nextInt(5) == 0 ? 0 : (long) (random.nextDouble() * maxWeight);
+            }
+            weights[random.nextInt(count)] = Math.max(1, weights[0]);
+            long total = (long) (random.nextDouble() * 1_000_000_000_000L);
+
+            // When
+            long[] amounts = LargestRemainderAllocator.allocate(total, weights);
+
+            // Then
+            assertThat(Arrays.stream(amounts).sum()).as("case %d", c).isEqualTo(total);
+            assertThat(LargestRemainderAllocator.allocate(total, weights)).as("결정적").containsExactly(amounts);
+            BigInteger weightSum = BigInteger.valueOf(Arrays.stream(weights).sum());
+            for (int i = 0; i < count; i++) {
+                BigDecimal exact = new BigDecimal(BigInteger.valueOf(total).multiply(BigInteger.valueOf(weights[i])))
+                        .divide(new BigDecimal(weightSum), MathContext.DECIMAL128);
+                assertThat(BigDecimal.valueOf(amounts[i]).subtract(exact).abs())
+                        .as("case %d, index %d", c, i).isLessThan(BigDecimal.ONE);
+                if (weights[i] == 0) {
+                    assertThat(amounts[i]).isZero();
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("속성 테스트: 균등 분배는 가중치가 모두 1인 분배와 같고, 최대/최소 차이는 1원 이하다.")
+    void equal_MatchesUnitWeights() {
+        Random random = new Random(SEED);
+        for (int c = 0; c < CASES; c++) {
+            int count = 1 + random.nextInt(2_000);
+            long total = random.nextLong(-1_000_000_000L, 1_000_000_000L);
+            long[] ones = new long[count];
+            Arrays.fill(ones, 1);
+
+            long[] amounts = LargestRemainderAllocator.equal(total, count);
+
+            assertThat(Arrays.stream(amounts).sum()).isEqualTo(total);
+            assertThat(amounts).containsExactly(LargestRemainderAllocator.allocate(total, ones));
+            assertThat(Arrays.stream(amounts).max().orElseThrow() - Arrays.stream(amounts).min().orElseThrow())
+                    .isLessThanOrEqualTo(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("가중치가 음수이거나 합계가 0이면 분배할 수 없다.")
+    void allocate_Fail_InvalidWeights() {
+        assertThatThrownBy(() -> LargestRemainderAllocator.allocate(100, new long[]{1, -1}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LargestRemainderAllocator.allocate(100, new long[]{0, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LargestRemainderAllocator.equal(100, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
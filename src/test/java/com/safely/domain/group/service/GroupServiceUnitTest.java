@@ -8,6 +8,7 @@ import com.safely.domain.group.repository.GroupMemberRepository;
 import com.safely.domain.group.repository.GroupRepository;
 import com.safely.domain.member.entity.Member;
 import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.service.SettlementPreviewCache;
 import com.safely.global.exception.common.EntityNotFoundException;
 import com.safely.global.exception.group.AlreadyJoinedGroupException;
 import com.safely.global.exception.group.InvalidInviteCodeException;
@@ -42,6 +43,10 @@ class GroupServiceUnitTest {
     GroupMemberRepository groupMemberRepository;
     @Mock
     MemberRepository memberRepository;
+    @Mock
+    SettlementPreviewCache settlementPreviewCache;
+    @Mock
+    GroupRosterCache groupRosterCache;
 
     @Test
     @DisplayName("성공: 그룹 생성 시 Repository들이 정상적으로 호출되고 MANAGER가 설정된다.")
@@ -136,6 +141,7 @@ class GroupServiceUnitTest {
 
         assertThat(captor.getValue().getRole()).isEqualTo(GroupRole.MEMBER); // 일반 멤버인지 확인
         assertThat(captor.getValue().getGroup()).isEqualTo(group);
+        verify(groupRosterCache).evict(100L); // 지출 등록 시 새 멤버가 바로 보여야 함
     }
 
     @Test
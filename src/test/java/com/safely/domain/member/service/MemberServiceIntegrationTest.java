@@ -0,0 +1,158 @@
+package com.safely.domain.member.service;
+
+import com.safely.domain.member.ProfileImageStatus;
+import com.safely.domain.member.dto.MemberResponse;
+import com.safely.domain.member.dto.ProfileImageCompleteRequest;
+import com.safely.domain.member.dto.ProfileImageUploadRequest;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.global.exception.BusinessException;
+import com.safely.global.exception.ErrorCode;
+import com.safely.global.s3.PresignedUploadResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// 업로드는 커밋 이후에 시작되므로 테스트 트랜잭션(@Transactional) 없이 실행함
+@SpringBootTest
+class MemberServiceIntegrationTest {
+
+    @Autowired MemberService memberService;
+    @Autowired MemberRepository memberRepository;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+
+    @Test
+    @DisplayName("프로필 이미지 수정: 요청은 PENDING 상태로 바로 끝나고, 업로드/썸네일 생성과 이전 이미지 삭제는 백그라운드에서 완료된다.")
+    void updateMember_UploadsProfileImageAfterCommit() throws Exception {
+        // Given
+        Member member = memberRepository.save(Member.builder()
+                .email("profile@safely.com").password("1").name("프로필").authority("ROLE_USER").build());
+
+        // When: 첫 번째 이미지
+        memberService.updateMember(member.getId(), null, image("first.png"));
+
+        // Then
+        MemberResponse first = awaitMember(member.getId(), m -> m.profileImageStatus() == ProfileImageStatus.READY);
+        Path firstFile = Path.of(URI.create(first.profileImage()));
+        Path firstThumbnail = Path.of(URI.create(first.profileThumbnail()));
+        assertThat(firstFile).exists();
+        assertThat(firstThumbnail).exists().isNotEqualTo(firstFile);
+
+        // When: 두 번째 이미지로 교체
+        memberService.updateMember(member.getId(), null, image("second.png"));
+
+        // Then: 새 이미지로 바뀌고 이전 이미지는 삭제됨
+        MemberResponse second = awaitMember(member.getId(),
+                m -> m.profileImageStatus() == ProfileImageStatus.READY && !first.profileImage().equals(m.profileImage()));
+        assertThat(Path.of(URI.create(second.profileImage()))).exists();
+        awaitDeleted(firstFile);
+        awaitDeleted(firstThumbnail);
+        assertThat(firstFile).doesNotExist();
+        assertThat(firstThumbnail).doesNotExist();
+
+        memberService.deleteMember(member.getId());
+    }
+
+    @Test
+    @DisplayName("서명된 URL 업로드: 클라이언트가 직접 올린 이미지를 확인한 뒤 프로필에 적용한다.")
+    void completeProfileImageUpload_AttachesUploadedObject() throws Exception {
+        // Given
+        Member member = memberRepository.save(Member.builder()
+                .email("presigned@safely.com").password("1").name("직접업로드").authority("ROLE_USER").build());
+        PresignedUploadResponse upload = memberService.createProfileImageUploadUrl(member.getId(),
+                new ProfileImageUploadRequest("direct.png", "image/png", 1024));
+
+        // When: 발급받은 URL로 클라이언트가 직접 업로드 (로컬 저장소에서는 파일 경로)
+        Files.write(Path.of(URI.create(upload.uploadUrl())), png());
+        memberService.completeProfileImageUpload(member.getId(), new ProfileImageCompleteRequest(upload.key()));
+
+        // Then
+        MemberResponse response = memberService.getMyInfo(member.getId());
+        assertThat(upload.key()).startsWith("profile/" + member.getId() + "/");
+        assertThat(response.profileImageStatus()).isEqualTo(ProfileImageStatus.READY);
+        assertThat(Path.of(URI.create(response.profileImage()))).exists();
+
+        memberService.deleteMember(member.getId());
+    }
+
+    @Test
+    @DisplayName("서명된 URL 업로드: 확장자와 실제 내용이 다르면 오브젝트를 지우고 거부한다.")
+    void completeProfileImageUpload_RejectsInvalidContent() throws Exception {
+        // Given
+        Member member = memberRepository.save(Member.builder()
+                .email("fake@safely.com").password("1").name("가짜").authority("ROLE_USER").build());
+        PresignedUploadResponse upload = memberService.createProfileImageUploadUrl(member.getId(),
+                new ProfileImageUploadRequest("fake.png", "image/png", 16));
+        Path uploaded = Path.of(URI.create(upload.uploadUrl()));
+        Files.writeString(uploaded, "<html>not an image</html>");
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.completeProfileImageUpload(member.getId(), new ProfileImageCompleteRequest(upload.key())))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.INVALID_UPLOADED_FILE);
+        assertThat(uploaded).doesNotExist();
+        assertThat(memberService.getMyInfo(member.getId()).profileImage()).isNull();
+
+        memberService.deleteMember(member.getId());
+    }
+
+    @Test
+    @DisplayName("서명된 URL 업로드: 다른 회원 경로의 키로는 완료할 수 없다.")
+    void completeProfileImageUpload_RejectsOtherMembersKey() {
+        // Given
+        Member member = memberRepository.save(Member.builder()
+                .email("other@safely.com").password("1").name("남의키").authority("ROLE_USER").build());
+        String otherKey = "profile/" + (member.getId() + 1) + "/image.png";
+
+        // When & Then
+        assertThatThrownBy(() -> memberService.completeProfileImageUpload(member.getId(), new ProfileImageCompleteRequest(otherKey)))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.HANDLE_ACCESS_DENIED);
+
+        memberService.deleteMember(member.getId());
+    }
+
+    private MockMultipartFile image(String filename) throws IOException {
+        return new MockMultipartFile("file", filename, "image/png", png());
+    }
+
+    private byte[] png() throws IOException {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB), "png", png);
+        return png.toByteArray();
+    }
+
+    private MemberResponse awaitMember(Long memberId, Predicate<MemberResponse> condition) throws InterruptedException {
+        MemberResponse response = memberService.getMyInfo(memberId);
+        for (int i = 0; i < 100 && !condition.test(response); i++) {
+            Thread.sleep(50);
+            response = memberService.getMyInfo(memberId);
+        }
+        return response;
+    }
+
+    private void awaitDeleted(Path file) throws InterruptedException {
+        for (int i = 0; i < 100 && Files.exists(file); i++) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.safely.domain.settlement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.safely.domain.settlement.dto.SettlementResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementPreviewCacheTest {
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final List<SettlementResponse> preview = List.of(new SettlementResponse(1L, "A", null, 5000L, 0L, 5000L));
+
+    SettlementPreviewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        cache = new SettlementPreviewCache(redisTemplate, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("캐시 적중: 현재 버전 키에 값이 있으면 DB 계산 없이 반환한다.")
+    void get_Hit() throws Exception {
+        // Given
+        given(valueOperations.get("settlement:version:1")).willReturn("3");
+        given(valueOperations.get("settlement:preview:1:3")).willReturn(objectMapper.writeValueAsString(preview));
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        List<SettlementResponse> result = cache.get(1L, () -> {
+            loads.incrementAndGet();
+            return preview;
+        });
+
+        // Then
+        assertThat(result).isEqualTo(preview);
+        assertThat(loads).hasValue(0);
+        assertThat(meterRegistry.counter("settlement.preview.cache", "result", "hit").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 미스: 락을 잡은 요청만 계산하고, 결과를 현재 버전 키에 저장한다.")
+    void get_MissAcquiresLockAndStores() throws Exception {
+        // Given: 버전 키가 아직 없음 (버전 0)
+        given(valueOperations.setIfAbsent(eq("settlement:lock:1:0"), anyString(), any(Duration.class))).willReturn(true);
+
+        // When
+        List<SettlementResponse> result = cache.get(1L, () -> preview);
+
+        // Then
+        assertThat(result).isEqualTo(preview);
+        verify(valueOperations).set(eq("settlement:preview:1:0"), eq(objectMapper.writeValueAsString(preview)), any(Duration.class));
+        verify(redisTemplate).delete("settlement:lock:1:0");
+        assertThat(meterRegistry.timer("settlement.preview.recompute").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Redis 장애: 예외를 전파하지 않고 DB에서 직접 계산한다.")
+    void get_RedisDown_FallsBackToLoader() {
+        // Given
+        given(valueOperations.get(anyString())).willThrow(new RedisConnectionFailureException("down"));
+
+        // When
+        List<SettlementResponse> result = cache.get(1L, () -> preview);
+
+        // Then
+        assertThat(result).isEqualTo(preview);
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+        assertThat(meterRegistry.counter("settlement.preview.cache", "result", "error").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화: 트랜잭션 밖에서는 즉시 버전 키를 올린다.")
+    void evictAfterCommit_OutsideTransaction() {
+        // When
+        cache.evictAfterCommit(1L);
+
+        // Then
+        verify(valueOperations).increment("settlement:version:1");
+    }
+}
@@ -0,0 +1,219 @@
+package com.safely.domain.settlement.service;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.service.ExpenseService;
+import com.safely.domain.group.dto.GroupCreateRequest;
+import com.safely.domain.group.service.GroupService;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.domain.settlement.dto.SettlementResponse;
+import com.safely.domain.settlement.entity.GroupBalance;
+import com.safely.domain.settlement.entity.Settlement;
+import com.safely.domain.settlement.repository.GroupBalanceRepository;
+import com.safely.domain.settlement.repository.SettlementRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class SettlementServiceIntegrationTest {
+
+    @Autowired SettlementService settlementService;
+    @Autowired ExpenseService expenseService;
+    @Autowired GroupService groupService;
+    @Autowired MemberRepository memberRepository;
+    @Autowired GroupBalanceRepository groupBalanceRepository;
+    @Autowired SettlementRepository settlementRepository;
+    @Autowired EntityManager em;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+
+    @Test
+    @DisplayName("잔액 원장: 지출 생성/수정/삭제 시 증감분만 반영되어 프리뷰 결과가 정확하다.")
+    void ledger_TracksExpenseChanges() {
+        // Given: 3명 그룹
+        Member a = saveMember("ledger-a@safely.com", "A");
+        Member b = saveMember("ledger-b@safely.com", "B");
+        Member c = saveMember("ledger-c@safely.com", "C");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("원장 여행", LocalDate.now(), LocalDate.now(), "Busan"));
+        String inviteCode = groupService.getGroupDetail(groupId, a.getId()).inviteCode();
+        groupService.joinGroupByCode(b.getId(), inviteCode);
+        groupService.joinGroupByCode(c.getId(), inviteCode);
+
+        // When: A가 30,000원 (3명), B가 10,000원 (B, C) 결제
+        Long first = expenseService.createExpense(groupId, request(30000L, a, List.of(a, b, c)));
+        expenseService.createExpense(groupId, request(10000L, b, List.of(b, c)));
+
+        // Then
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 20000L,
+                b.getId(), -5000L,
+                c.getId(), -15000L));
+
+        // When: 첫 지출을 C가 12,000원 (A, C) 결제한 것으로 수정
+        expenseService.updateExpense(groupId, first, request(12000L, c, List.of(a, c)));
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), -6000L,
+                b.getId(), 5000L,
+                c.getId(), 1000L));
+
+        // When: 첫 지출 삭제
+        expenseService.deleteExpense(groupId, first);
+        em.flush();
+        em.clear();
+
+        // Then: 원장은 멤버당 한 행만 유지됨
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 0L,
+                b.getId(), 5000L,
+                c.getId(), -5000L));
+        List<GroupBalance> rows = groupBalanceRepository.findAllByGroupId(groupId);
+        assertThat(rows).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("잔액 원장이 없는 그룹(원장 도입 이전 데이터)은 지출 합계 쿼리로 계산하고, 다음 지출 변경 시 원장을 채운다.")
+    void ledger_FallsBackToAggregatesWhenEmpty() {
+        // Given: 지출 생성 후 원장 삭제 (원장 도입 이전 상태 재현)
+        Member a = saveMember("legacy-a@safely.com", "A");
+        Member b = saveMember("legacy-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("이전 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        expenseService.createExpense(groupId, request(10000L, a, List.of(a, b)));
+        groupBalanceRepository.deleteAllByGroupId(groupId);
+        em.flush();
+        em.clear();
+
+        // When & Then: 원장 없이도 동일한 결과
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 5000L,
+                b.getId(), -5000L));
+
+        // When: 새 지출이 들어오면 기존 지출까지 포함해 원장이 채워짐
+        expenseService.createExpense(groupId, request(4000L, b, List.of(a, b)));
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(groupBalanceRepository.findAllByGroupId(groupId)).hasSize(2);
+        assertThat(preview(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 3000L,
+                b.getId(), -3000L));
+    }
+
+    @Test
+    @DisplayName("정산 확정: 멤버당 한 행만 저장되고, 재확정 시 금액이 갱신되며, 취소 시 모두 초기화된다.")
+    void completeSettlement_UpsertsAndCancelResets() {
+        // Given
+        Member a = saveMember("complete-a@safely.com", "A");
+        Member b = saveMember("complete-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("정산 여행", LocalDate.now(), LocalDate.now(), "Jeju"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        expenseService.createExpense(groupId, request(10000L, a, List.of(a, b)));
+
+        // When: 첫 확정 (INSERT)
+        settlementService.completeSettlement(groupId);
+        em.flush();
+        em.clear();
+
+        // Then
+        assertThat(settled(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 5000L,
+                b.getId(), -5000L));
+
+        // When: 지출 추가 후 재확정 (UPDATE)
+        expenseService.createExpense(groupId, request(2000L, b, List.of(a, b)));
+        settlementService.completeSettlement(groupId);
+        em.flush();
+        em.clear();
+
+        // Then: 행 수는 그대로, 금액만 갱신
+        assertThat(settled(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 4000L,
+                b.getId(), -4000L));
+
+        // When: 취소
+        settlementService.cancelSettlement(groupId);
+
+        // Then
+        List<Settlement> settlements = settlementRepository.findAllByGroupId(groupId);
+        assertThat(settlements).hasSize(2);
+        assertThat(settlements).allSatisfy(settlement -> {
+            assertThat(settlement.getNetAmount()).isZero();
+            assertThat(settlement.isSettled()).isFalse();
+            assertThat(settlement.getSettledAt()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("정산 재확정: 금액이 그대로여도 확정 시각(settledAt)은 갱신된다.")
+    void completeSettlement_RefreshesSettledAt() {
+        // Given: 한 번 확정된 그룹
+        Member a = saveMember("refresh-a@safely.com", "A");
+        Member b = saveMember("refresh-b@safely.com", "B");
+        Long groupId = groupService.createGroup(a.getId(), new GroupCreateRequest("재확정 여행", LocalDate.now(), LocalDate.now(), "Jeju"));
+        groupService.joinGroupByCode(b.getId(), groupService.getGroupDetail(groupId, a.getId()).inviteCode());
+        expenseService.createExpense(groupId, request(10000L, a, List.of(a, b)));
+        settlementService.completeSettlement(groupId);
+        em.flush();
+        em.clear();
+        Map<Long, LocalDateTime> first = settledAt(groupId);
+
+        // When: 지출 변경 없이 다시 확정
+        settlementService.completeSettlement(groupId);
+        em.flush();
+        em.clear();
+
+        // Then: 금액은 그대로, 확정 시각만 뒤로
+        assertThat(settled(groupId)).containsExactlyInAnyOrderEntriesOf(Map.of(
+                a.getId(), 5000L,
+                b.getId(), -5000L));
+        settledAt(groupId).forEach((memberId, settledAt) -> assertThat(settledAt).isAfter(first.get(memberId)));
+    }
+
+    private Map<Long, LocalDateTime> settledAt(Long groupId) {
+        return settlementRepository.findAllByGroupId(groupId).stream()
+                .collect(Collectors.toMap(settlement -> settlement.getMember().getId(), Settlement::getSettledAt));
+    }
+
+    private Map<Long, Long> settled(Long groupId) {
+        List<Settlement> settlements = settlementRepository.findAllByGroupId(groupId);
+        assertThat(settlements).allSatisfy(settlement -> assertThat(settlement.isSettled()).isTrue());
+        return settlements.stream()
+                .collect(Collectors.toMap(settlement -> settlement.getMember().getId(), Settlement::getNetAmount));
+    }
+
+    private Map<Long, Long> preview(Long groupId) {
+        return settlementService.getSettlementPreview(groupId).stream()
+                .collect(Collectors.toMap(SettlementResponse::memberId, SettlementResponse::netAmount));
+    }
+
+    private ExpenseCreateRequest request(Long amount, Member payer, List<Member> participants) {
+        return new ExpenseCreateRequest(
+                LocalDate.now(), "식당", ExpenseCategory.FOOD, amount, payer.getId(),
+                participants.stream().map(Member::getId).toList());
+    }
+
+    private Member saveMember(String email, String name) {
+        return memberRepository.save(Member.builder().email(email).password("1").name(name).authority("ROLE_USER").build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.safely.domain.settlement.service;
+
+import com.safely.domain.settlement.service.SettlementTransferCalculator.Transfer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SettlementTransferCalculatorTest {
+    private final SettlementTransferCalculator calculator = new SettlementTransferCalculator();
+
+    @Test
+    @DisplayName("정확 모드: 합이 0인 묶음(6,-6 / 5,2,-7)을 찾아 greedy보다 적은 3건으로 정산한다.")
+    void exact_FindsMinimumTransfers() {
+        long[] balances = {6, 5, 2, -7, -6};
+
+        List<Transfer> greedy = calculator.calculateGreedy(balances);
+        List<Transfer> exact = calculator.calculateExact(balances);
+
+        assertSettled(balances, greedy);
+        assertSettled(balances, exact);
+        assertThat(greedy).hasSize(4);
+        assertThat(exact).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("greedy 모드: 대규모 그룹도 모든 잔액이 0이 되고 송금 횟수는 N-1건 이하이다.")
+    void greedy_SettlesLargeGroup() {
+        long[] balances = randomBalances(new Random(42), 5000);
+
+        List<Transfer> transfers = calculator.calculate(balances);
+
+        assertSettled(balances, transfers);
+        assertThat(transfers.size()).isLessThan(balances.length);
+    }
+
+    @Test
+    @DisplayName("같은 입력이면 항상 같은 송금 목록을 반환한다.")
+    void calculate_IsDeterministic() {
+        long[] balances = {3000, 3000, -2000, -2000, -2000};
+
+        assertThat(calculator.calculate(balances)).isEqualTo(calculator.calculate(balances));
+    }
+
+    @Test
+    @DisplayName("잔액 합이 0이 아니면 예외가 발생한다.")
+    void calculate_Fail_UnbalancedInput() {
+        assertThatThrownBy(() -> calculator.calculate(new long[]{1000, -999}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertSettled(long[] balances, List<Transfer> transfers) {
+        long[] remain = Arrays.copyOf(balances, balances.length);
+        for (Transfer t : transfers) {
+            assertThat(t.amount()).isPositive();
+            remain[t.from()] += t.amount();
+            remain[t.to()] -= t.amount();
+        }
+        assertThat(remain).containsOnly(0L);
+    }
+
+    private long[] randomBalances(Random random, int size) {
+        long[] balances = new long[size];
+        long sum = 0;
+        for (int i = 0; i < size - 1; i++) {
+            balances[i] = random.nextInt(200_001) - 100_000;
+            sum += balances[i];
+        }
+        balances[size - 1] = -sum;
+        return balances;
+    }
+}
@@ -0,0 +1,37 @@
+package com.safely.global.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("@Async 작업은 가상 스레드에서도 요청 스레드의 인증 정보를 그대로 사용한다.")
+    void securityContextTaskDecorator_PropagatesToVirtualThread() throws Exception {
+        // Given: JWT 필터가 인증 정보를 넣은 요청 스레드
+        Authentication authentication = new UsernamePasswordAuthenticationToken("user", "", null);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        AtomicReference<Authentication> seen = new AtomicReference<>();
+
+        // When
+        Thread thread = Thread.ofVirtual().start(new AsyncConfig().securityContextTaskDecorator().decorate(
+                () -> seen.set(SecurityContextHolder.getContext().getAuthentication())));
+        thread.join();
+
+        // Then
+        assertThat(seen.get()).isSameAs(authentication);
+    }
+}
@@ -0,0 +1,70 @@
+package com.safely.global.config;
+
+import com.safely.domain.expense.ExpenseCategory;
+import com.safely.domain.expense.dto.ExpenseCreateRequest;
+import com.safely.domain.expense.service.ExpenseService;
+import com.safely.domain.group.dto.GroupCreateRequest;
+import com.safely.domain.group.service.GroupService;
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@SpringBootTest
+class IdAllocationPoolIntegrationTest {
+
+    @Autowired DataSource dataSource;
+    @Autowired ExpenseService expenseService;
+    @Autowired GroupService groupService;
+    @Autowired MemberRepository memberRepository;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+
+    @Test
+    @DisplayName("메인 커넥션 풀에 남은 커넥션이 하나뿐이어도, 지출 INSERT의 ID 블록 할당이 전용 풀에서 진행되어 멈추지 않는다.")
+    void createExpense_AllocatesIdsWhileMainPoolIsExhausted() throws Exception {
+        // Given
+        Member member = memberRepository.save(Member.builder().email("id-pool@safely.com").password("1").name("A").authority("ROLE_USER").build());
+        Long groupId = groupService.createGroup(member.getId(), new GroupCreateRequest("ID 여행", LocalDate.now(), LocalDate.now(), "Seoul"));
+        ExpenseCreateRequest request = new ExpenseCreateRequest(
+                LocalDate.now(), "식당", ExpenseCategory.FOOD, 1000L, member.getId(), List.of(member.getId()));
+        expenseService.createExpense(groupId, request);
+
+        // 메인 풀의 커넥션을 하나만 남기고 모두 점유 (요청 트랜잭션이 마지막 하나를 씀)
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        List<Connection> held = new ArrayList<>();
+        try {
+            for (int i = 0; i < pool.getMaximumPoolSize() - 1; i++) {
+                held.add(pool.getConnection());
+            }
+
+            // When: ID 블록(50개)을 넘겨서 새 블록을 받아와야 하는 만큼 지출 생성
+            // Then: 메인 풀에서 ID 블록용 커넥션을 기다렸다면 커넥션 타임아웃(30초)까지 멈춤
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+                for (int i = 0; i < 60; i++) {
+                    expenseService.createExpense(groupId, request);
+                }
+            });
+        } finally {
+            for (Connection connection : held) {
+                connection.close();
+            }
+        }
+        assertThat(expenseService.getExpenses(groupId)).hasSize(61);
+    }
+}
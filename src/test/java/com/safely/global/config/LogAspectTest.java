@@ -0,0 +1,112 @@
+package com.safely.global.config;
+
+import com.safely.domain.auth.dto.LoginRequest;
+import com.safely.domain.auth.dto.RefreshTokenRequest;
+import com.safely.domain.member.dto.MemberUpdateRequest;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class LogAspectTest {
+
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("성공/예외 요청 모두 엔드포인트별 타이머에 기록된다.")
+    void logAround_RecordsEndpointTimer() throws Throwable {
+        // Given
+        LogAspect aspect = new LogAspect(meterRegistry, properties(0.0, 1000));
+        ProceedingJoinPoint success = joinPoint("getGroup");
+        given(success.proceed()).willReturn("ok");
+        ProceedingJoinPoint failure = joinPoint("getGroup");
+        given(failure.proceed()).willThrow(new IllegalStateException("boom"));
+
+        // When
+        Object result = aspect.logAround(success);
+        aspect.logAround(success);
+        assertThatThrownBy(() -> aspect.logAround(failure)).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        assertThat(result).isEqualTo("ok");
+        assertThat(timer("success").count()).isEqualTo(2L);
+        assertThat(timer("error").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("로그 파라미터는 파일은 이름/크기만, 큰 컬렉션은 크기만 남기고 길이를 제한한다.")
+    void lazyArgs_SummarizesLargeArguments() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", new byte[2048]);
+        List<Integer> participants = IntStream.range(0, 1000).boxed().toList();
+
+        // When
+        String rendered = new LogAspect.LazyArgs(new Object[]{file, participants, "x".repeat(1000)}).toString();
+
+        // Then
+        assertThat(rendered).startsWith("[MultipartFile(photo.png, 2048 bytes), ");
+        assertThat(rendered).contains("(size=1000)");
+        assertThat(rendered).hasSizeLessThanOrEqualTo(504).endsWith("...]");
+    }
+
+    @Test
+    @DisplayName("로그 파라미터에서 요청 DTO의 비밀번호/토큰 필드는 값을 가린다.")
+    void lazyArgs_MasksSensitiveFields() {
+        // Given
+        LoginRequest login = new LoginRequest("user@safely.com", "secret-pass-1");
+        MemberUpdateRequest update = new MemberUpdateRequest("새이름", "old-pass-1", "new-pass-2");
+        RefreshTokenRequest refresh = new RefreshTokenRequest("refresh-token-value");
+
+        // When
+        String rendered = new LogAspect.LazyArgs(new Object[]{login, update, refresh}).toString();
+
+        // Then
+        assertThat(rendered).contains("LoginRequest[email=user@safely.com, password=****]");
+        assertThat(rendered).contains("MemberUpdateRequest[name=새이름, currentPassword=****, newPassword=****]");
+        assertThat(rendered).contains("RefreshTokenRequest[refreshToken=****]");
+        assertThat(rendered).doesNotContain("secret-pass-1", "old-pass-1", "new-pass-2", "refresh-token-value");
+    }
+
+    private Timer timer(String outcome) {
+        return meterRegistry.get("controller.requests")
+                .tag("controller", SampleController.class.getSimpleName())
+                .tag("method", "getGroup")
+                .tag("outcome", outcome)
+                .timer();
+    }
+
+    private ProceedingJoinPoint joinPoint(String methodName) throws NoSuchMethodException {
+        MethodSignature signature = mock(MethodSignature.class);
+        given(signature.getMethod()).willReturn(SampleController.class.getMethod(methodName));
+        given(signature.getName()).willReturn(methodName);
+        given(signature.getDeclaringType()).willReturn(SampleController.class);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        given(joinPoint.getSignature()).willReturn(signature);
+        given(joinPoint.getArgs()).willReturn(new Object[0]);
+        return joinPoint;
+    }
+
+    private RequestLogProperties properties(double sampleRate, long slowThresholdMs) {
+        RequestLogProperties properties = new RequestLogProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setSlowThresholdMs(slowThresholdMs);
+        return properties;
+    }
+
+    static class SampleController {
+        public String getGroup() {
+            return "ok";
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.safely.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+
+    @Test
+    @DisplayName("프로메테우스 엔드포인트는 토큰 없이 접근할 수 있고, 요청별 SQL 수와 커넥션 풀 상태를 노출한다.")
+    void prometheus_ExposesRequestMetricsWithoutToken() throws Exception {
+        // Given
+        mockMvc.perform(get("/health")).andExpect(status().isOk());
+
+        // When
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertThat(scrape).contains("http_server_sql_statements_count{method=\"GET\",uri=\"/health\"}");
+        assertThat(scrape).contains("hikaricp_connections_pending");
+    }
+}
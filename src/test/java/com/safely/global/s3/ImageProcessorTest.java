@@ -0,0 +1,68 @@
+package com.safely.global.s3;
+
+import com.safely.global.exception.upload.ImageTooLargeException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("변환본: 긴 변이 각 크기에 맞게 줄어든 JPEG로 만들어지고 비율은 유지된다.")
+    void createVariants_ResizesKeepingAspectRatio() throws Exception {
+        // Given
+        Path source = png(2000, 1000);
+
+        // When
+        List<ImageProcessor.Variant> variants = new ImageProcessor(40_000_000L).createVariants(source);
+
+        // Then
+        assertThat(variants).extracting(ImageProcessor.Variant::type)
+                .containsExactly(ImageVariant.THUMBNAIL, ImageVariant.MEDIUM);
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(variants.get(0).data()));
+        BufferedImage medium = ImageIO.read(new ByteArrayInputStream(variants.get(1).data()));
+        assertThat(thumbnail.getWidth()).isEqualTo(128);
+        assertThat(thumbnail.getHeight()).isEqualTo(64);
+        assertThat(medium.getWidth()).isEqualTo(512);
+        assertThat(medium.getHeight()).isEqualTo(256);
+    }
+
+    @Test
+    @DisplayName("해상도 제한을 넘는 이미지는 디코딩하지 않고 거절하고, 이미지가 아닌 파일은 변환본 없이 넘어간다.")
+    void createVariants_RejectsTooLargeAndSkipsUnknown() throws Exception {
+        // Given
+        Path large = png(300, 300);
+        Path notImage = Files.write(tempDir.resolve("note.png"), new byte[]{1, 2, 3});
+        ImageProcessor processor = new ImageProcessor(50_000L);
+
+        // When & Then
+        assertThatThrownBy(() -> processor.createVariants(large)).isInstanceOf(ImageTooLargeException.class);
+        assertThat(processor.createVariants(notImage)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변환본 키는 원본 키에서 정해진다.")
+    void keyFor() {
+        assertThat(ImageVariant.THUMBNAIL.keyFor("profile/abc-me.png")).isEqualTo("profile/abc-me_w128.jpg");
+        assertThat(ImageVariant.MEDIUM.keyFor("profile/abc-unknown-file")).isEqualTo("profile/abc-unknown-file_w512.jpg");
+    }
+
+    private Path png(int width, int height) throws Exception {
+        Path path = tempDir.resolve(width + "x" + height + ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", path.toFile());
+        return path;
+    }
+}
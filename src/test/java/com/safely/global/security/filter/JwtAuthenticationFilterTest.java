@@ -0,0 +1,51 @@
+package com.safely.global.security.filter;
+
+import com.safely.domain.member.entity.Member;
+import com.safely.domain.member.repository.MemberRepository;
+import com.safely.global.security.jwt.AccessTokenBlacklist;
+import com.safely.global.security.jwt.JwtProvider;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+class JwtAuthenticationFilterTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired JwtProvider jwtProvider;
+    @Autowired MemberRepository memberRepository;
+
+    @MockitoBean RedisConnectionFactory redisConnectionFactory;
+    @MockitoBean AccessTokenBlacklist accessTokenBlacklist; // 로그아웃 여부는 이 테스트의 관심사가 아님
+
+    @Test
+    @DisplayName("리프레시 토큰으로는 보호된 API에 접근할 수 없다.")
+    void refreshToken_RejectedAsBearer() throws Exception {
+        // Given
+        Member member = memberRepository.save(Member.builder()
+                .email("bearer@safely.com")
+                .password("1234")
+                .name("토큰유저")
+                .authority("ROLE_USER")
+                .build());
+        String accessToken = jwtProvider.generateAccessToken(member.getId(), member.getEmail(), member.getAuthority());
+        String refreshToken = jwtProvider.generateRefreshToken(member.getId());
+
+        // When & Then
+        mockMvc.perform(get("/api/members/me").header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/members/me").header("Authorization", "Bearer " + refreshToken))
+                .andExpect(status().isUnauthorized());
+    }
+}
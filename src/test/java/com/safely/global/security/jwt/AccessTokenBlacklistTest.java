@@ -0,0 +1,130 @@
+package com.safely.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenBlacklistTest {
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    AccessTokenBlacklist blacklist;
+
+    @BeforeEach
+    void setUp() {
+        blacklist = new AccessTokenBlacklist(redisTemplate, new JwtProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("동기화 후: 필터에 없는 토큰은 Redis를 조회하지 않고, 로그아웃된 토큰만 Redis에서 확인한다.")
+    void isRevoked_SkipsRedisWhenNotInFilter() {
+        // Given: Redis에 블랙리스트 키가 하나도 없는 상태로 동기화
+        givenScan();
+        blacklist.sync();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        blacklist.revoke(claims("revoked-jti"), "token", 5000L);
+        given(valueOperations.get("blacklist:access:revoked-jti")).willReturn("logout");
+
+        // When & Then
+        assertThat(blacklist.isRevoked(claims("active-jti"), "token")).isFalse();
+        assertThat(blacklist.isRevoked(claims("revoked-jti"), "token")).isTrue();
+        verify(valueOperations, never()).get("blacklist:access:active-jti");
+        verify(valueOperations).set("blacklist:access:revoked-jti", "logout", 5000L, TimeUnit.MILLISECONDS);
+        verify(redisTemplate).convertAndSend(AccessTokenBlacklist.CHANNEL, "revoked-jti");
+        assertThat(meterRegistry.counter("auth.blacklist.lookup", "result", "filtered").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("동기화 전/실패: 필터를 믿을 수 없으므로 모든 토큰을 Redis에서 확인한다.")
+    void isRevoked_ChecksRedisUntilSynced() {
+        // Given
+        given(redisTemplate.scan(any(ScanOptions.class))).willThrow(new RedisConnectionFailureException("down"));
+        blacklist.sync();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // When
+        boolean revoked = blacklist.isRevoked(claims("active-jti"), "token");
+
+        // Then
+        assertThat(revoked).isFalse();
+        verify(valueOperations).get("blacklist:access:active-jti");
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 로그아웃된 jti는 동기화(SCAN) 또는 Pub/Sub 메시지로 필터에 반영된다.")
+    void sync_LoadsRevokedIdsFromRedis() {
+        // Given
+        givenScan("blacklist:access:from-scan", "blacklist:access:legacy.full.token");
+        blacklist.sync();
+        blacklist.markRevoked("from-pubsub");
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // When
+        blacklist.isRevoked(claims("from-scan"), "token");
+        blacklist.isRevoked(claims("from-pubsub"), "token");
+
+        // Then
+        verify(valueOperations).get("blacklist:access:from-scan");
+        verify(valueOperations).get("blacklist:access:from-pubsub");
+    }
+
+    @Test
+    @DisplayName("jti가 없는 이전 토큰은 토큰 전체를 키로 사용한다.")
+    void legacyTokenWithoutJti_UsesFullTokenKey() {
+        // Given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        Claims legacy = Jwts.claims().subject("1").build();
+
+        // When
+        blacklist.revoke(legacy, "legacy-token", 5000L);
+        blacklist.isRevoked(legacy, "legacy-token");
+
+        // Then
+        verify(valueOperations).set("blacklist:access:legacy-token", "logout", 5000L, TimeUnit.MILLISECONDS);
+        verify(valueOperations).get("blacklist:access:legacy-token");
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenScan(String... keys) {
+        Iterator<String> iterator = List.of(keys).iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+        if (keys.length > 0) {
+            given(cursor.next()).willAnswer(invocation -> iterator.next());
+        }
+        given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+    }
+
+    private Claims claims(String jti) {
+        return Jwts.claims().id(jti).subject("1").build();
+    }
+}
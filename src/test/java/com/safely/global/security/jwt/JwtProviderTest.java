@@ -0,0 +1,53 @@
+package com.safely.global.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtProviderTest {
+
+    @Test
+    @DisplayName("parseOnce: 유효한 토큰은 클레임을 반환하고, 같은 토큰은 캐시된 클레임을 재사용한다.")
+    void parseOnce_ValidToken() {
+        JwtProvider jwtProvider = provider(60_000L);
+        String token = jwtProvider.generateAccessToken(1L, "user@safely.com", "ROLE_USER");
+
+        Optional<Claims> first = jwtProvider.parseOnce(token);
+        Optional<Claims> second = jwtProvider.parseOnce(token);
+
+        assertThat(first).isPresent();
+        assertThat(first.get().getSubject()).isEqualTo("1");
+        assertThat(first.get().get("role", String.class)).isEqualTo("ROLE_USER");
+        assertThat(second.get()).isSameAs(first.get());
+    }
+
+    @Test
+    @DisplayName("parseOnce: 서명이 변조되었거나 만료된 토큰은 거부한다.")
+    void parseOnce_RejectsTamperedAndExpired() {
+        JwtProvider jwtProvider = provider(60_000L);
+        String token = jwtProvider.generateAccessToken(1L, "user@safely.com", "ROLE_USER");
+        jwtProvider.parseOnce(token); // 원본 토큰을 캐시에 넣어도 변조 토큰은 다른 키로 취급되어야 함
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+        JwtProvider expiredProvider = provider(-1_000L);
+        String expired = expiredProvider.generateAccessToken(1L, "user@safely.com", "ROLE_USER");
+
+        assertThat(jwtProvider.parseOnce(tampered)).isEmpty();
+        assertThat(expiredProvider.parseOnce(expired)).isEmpty();
+        assertThat(jwtProvider.parseOnce("not-a-jwt")).isEmpty();
+        assertThat(jwtProvider.parseOnce(null)).isEmpty();
+    }
+
+    private JwtProvider provider(long accessTokenExpireMs) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey("test-very-long-secret-key-for-unit-tests-must-be-secure");
+        properties.setAccessTokenExpireMs(accessTokenExpireMs);
+        JwtProvider jwtProvider = new JwtProvider(properties, null);
+        jwtProvider.init();
+        return jwtProvider;
+    }
+}
@@ -0,0 +1,93 @@
+package com.safely.global.security.password;
+
+import com.safely.global.exception.common.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("해시 계산은 전용 스레드에서 실행되고, cost가 바뀐 해시는 재해시 대상으로 판단한다.")
+    void encodeAndMatches_RunOnHashingPool() {
+        // Given
+        BoundedPasswordEncoder encoder = encoder(new BCryptPasswordEncoder(5), 2, 4);
+
+        // When
+        String encoded = encoder.encode("password");
+
+        // Then
+        assertThat(encoder.matches("password", encoded)).isTrue();
+        assertThat(encoder.matches("wrong", encoded)).isFalse();
+        assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+        assertThat(meterRegistry.timer("password.hash", "operation", "matches").count()).isEqualTo(2L);
+        assertThat(meterRegistry.timer("password.hash.queue.wait").count()).isEqualTo(3L);
+        encoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차 있으면 기다리지 않고 바로 503 예외로 거절한다.")
+    void encode_RejectsWhenSaturated() throws Exception {
+        // Given: 스레드 1개 + 대기열 1개를 모두 점유
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        BoundedPasswordEncoder encoder = encoder(new BlockingEncoder(started, release), 1, 1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+        waitUntilQueued();
+
+        // When & Then
+        assertThatThrownBy(() -> encoder.encode("c")).isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.counter("password.hash.rejected").count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-a");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded-b");
+        encoder.shutdown();
+    }
+
+    private void waitUntilQueued() throws InterruptedException {
+        for (int i = 0; i < 100 && meterRegistry.get("password.hash.queue.size").gauge().value() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    private BoundedPasswordEncoder encoder(PasswordEncoder delegate, int threads, int queueCapacity) {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setThreads(threads);
+        properties.setQueueCapacity(queueCapacity);
+        return new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+    }
+
+    // 해시 계산이 오래 걸리는 상황을 재현하는 인코더
+    private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "encoded-" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals(encode(rawPassword));
+        }
+    }
+}